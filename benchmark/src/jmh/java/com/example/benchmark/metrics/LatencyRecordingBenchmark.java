@@ -0,0 +1,31 @@
+package com.example.benchmark.metrics;
+
+import com.example.domain.parking.metrics.LatencyHistogram;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording one latency, the overhead every instrumented call pays. Run with the GC
+ * profiler, gc.alloc.rate.norm must stay at zero bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LatencyRecordingBenchmark {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long latencyNanos = 1;
+
+    @Benchmark
+    public void record() {
+        latencyNanos = latencyNanos * 6364136223846793005L + 1442695040888963407L;
+        histogram.record(latencyNanos >>> 34);
+    }
+}
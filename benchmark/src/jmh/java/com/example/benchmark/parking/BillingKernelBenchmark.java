@@ -0,0 +1,53 @@
+package com.example.benchmark.parking;
+
+import com.example.benchmark.support.EmptyRepositories;
+import com.example.benchmark.support.SyntheticVehicles;
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the primitive billing kernel. Run with the GC profiler, gc.alloc.rate.norm must stay
+ * at zero bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BillingKernelBenchmark {
+
+    private static final long MILLISECONDS_IN_AN_HOUR = 3600000;
+
+    private ParkingService parkingService;
+    private long entryMillis;
+    private long exitMillis;
+    private int cylinderCapacity;
+
+    @Setup
+    public void setUp() {
+        parkingService = EmptyRepositories.parkingService();
+        exitMillis = EpochMillis.of(SyntheticVehicles.EXIT_DATE);
+        entryMillis = exitMillis - 30 * MILLISECONDS_IN_AN_HOUR - 17 * 60000;
+        cylinderCapacity = 650;
+    }
+
+    @Benchmark
+    public long carKernel() {
+        return parkingService.calculateParkingCost(entryMillis, exitMillis, VehicleType.CAR, 0);
+    }
+
+    @Benchmark
+    public long motorcycleKernel() {
+        return parkingService.calculateParkingCost(entryMillis, exitMillis, VehicleType.MOTORCYCLE,
+                cylinderCapacity);
+    }
+}
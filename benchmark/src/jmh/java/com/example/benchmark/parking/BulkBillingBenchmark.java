@@ -0,0 +1,56 @@
+package com.example.benchmark.parking;
+
+import com.example.benchmark.support.EmptyRepositories;
+import com.example.benchmark.support.SyntheticVehicles;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of billing a whole synthetic lot, mixing cars and motorcycles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkBillingBenchmark {
+
+    @Param({"100", "10000"})
+    private int vehicles;
+
+    private ParkingService parkingService;
+    private List<Vehicle> population;
+    private LocalDateTime exitDate;
+
+    @Setup
+    public void setUp() {
+        parkingService = EmptyRepositories.parkingService();
+        population = SyntheticVehicles.population(vehicles, 42);
+        exitDate = SyntheticVehicles.EXIT_DATE;
+    }
+
+    @Benchmark
+    public long billPopulation() {
+        long total = 0;
+        for (Vehicle vehicle : population) {
+            total += vehicle.calculateParkingCost(parkingService, exitDate);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long projectRevenue() {
+        return parkingService.projectRevenue(population, exitDate).getTotal();
+    }
+}
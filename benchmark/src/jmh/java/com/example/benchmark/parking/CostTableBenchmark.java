@@ -0,0 +1,69 @@
+package com.example.benchmark.parking;
+
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.model.RatePlan;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Precomputed cost table against the closed-form day and hour arithmetic, over a mix of stays
+ * that fall inside the table or, for the longest bound, mostly past it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CostTableBenchmark {
+
+    private static final int STAYS = 1024;
+
+    @Param({"48", "168", "10000"})
+    private int maxHours;
+
+    private RatePlan ratePlan;
+    private long[] parkingHours;
+    private int[] vehicleTypes;
+
+    @Setup
+    public void setUp() {
+        ratePlan = RatePlan.from(new Parking());
+        parkingHours = new long[STAYS];
+        vehicleTypes = new int[STAYS];
+        Random random = new Random(42);
+        for (int i = 0; i < STAYS; i++) {
+            parkingHours[i] = random.nextInt(maxHours);
+            vehicleTypes[i] = random.nextInt(VehicleType.COUNT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STAYS)
+    public long costTable() {
+        long total = 0;
+        for (int i = 0; i < STAYS; i++) {
+            total += ratePlan.costForHours(parkingHours[i], vehicleTypes[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STAYS)
+    public long closedForm() {
+        long total = 0;
+        for (int i = 0; i < STAYS; i++) {
+            total += ratePlan.closedFormCost(parkingHours[i], vehicleTypes[i]);
+        }
+        return total;
+    }
+}
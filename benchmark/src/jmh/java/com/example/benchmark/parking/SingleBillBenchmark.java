@@ -0,0 +1,55 @@
+package com.example.benchmark.parking;
+
+import com.example.benchmark.support.EmptyRepositories;
+import com.example.benchmark.support.SyntheticVehicles;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of billing one vehicle, the work done at the exit gate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SingleBillBenchmark {
+
+    private ParkingService parkingService;
+    private Car car;
+    private Motorcycle motorcycle;
+    private LocalDateTime exitDate;
+
+    @Setup
+    public void setUp() {
+        parkingService = EmptyRepositories.parkingService();
+        exitDate = SyntheticVehicles.EXIT_DATE;
+        car = new Car("YMU-95C", exitDate.minusHours(30).minusMinutes(17));
+        motorcycle = new Motorcycle("YMU-95D", exitDate.minusHours(5).minusMinutes(42), 650);
+    }
+
+    @Benchmark
+    public int getParkingTime() {
+        return parkingService.getParkingTime(car.getEntryDate(), exitDate);
+    }
+
+    @Benchmark
+    public int carParkingCost() {
+        return parkingService.carParkingCost(car, exitDate);
+    }
+
+    @Benchmark
+    public int motorcycleParkingCost() {
+        return parkingService.motorcycleParkingCost(motorcycle, exitDate);
+    }
+}
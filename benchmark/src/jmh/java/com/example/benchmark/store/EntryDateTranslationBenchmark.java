@@ -0,0 +1,59 @@
+package com.example.benchmark.store;
+
+import com.example.domain.parking.model.EpochMillis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of translating a stored entry date, the ISO-8601 text the vehicle table used to
+ * hold against the epoch milliseconds the date converter reads now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntryDateTranslationBenchmark {
+
+    private static final int ROWS = 5000;
+
+    private String[] isoDates;
+    private long[] epochDates;
+
+    @Setup
+    public void setUp() {
+        isoDates = new String[ROWS];
+        epochDates = new long[ROWS];
+        LocalDateTime entryDate = LocalDateTime.of(2021, 5, 23, 13, 57, 0);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDateTime rowDate = entryDate.plusSeconds(i * 97L);
+            isoDates[i] = rowDate.toString();
+            epochDates[i] = EpochMillis.of(rowDate);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void isoText(Blackhole blackhole) {
+        for (String isoDate : isoDates) {
+            blackhole.consume(LocalDateTime.parse(isoDate));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void epochMillis(Blackhole blackhole) {
+        for (long epochDate : epochDates) {
+            blackhole.consume(EpochMillis.toLocalDateTime(epochDate));
+        }
+    }
+}
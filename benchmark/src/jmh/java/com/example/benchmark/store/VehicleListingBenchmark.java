@@ -0,0 +1,175 @@
+package com.example.benchmark.store;
+
+import com.example.benchmark.support.EmptyRepositories;
+import com.example.benchmark.support.SyntheticVehicles;
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughCarRepository;
+import com.example.domain.parking.store.WriteThroughMotorcycleRepository;
+import com.example.domain.parking.store.WriteThroughVehicleRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first list of parked vehicles when a screen is created: rebuilding every vehicle
+ * from its stored row, as each new activity used to, against reading the warm in-memory store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VehicleListingBenchmark {
+
+    @Param({"100", "10000"})
+    private int vehicles;
+
+    private VehicleRepository storedRows;
+    private ParkingService warmParkingService;
+
+    @Setup
+    public void setUp() {
+        storedRows = new StoredRows(SyntheticVehicles.population(vehicles, 42));
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(storedRows);
+        parkedVehicleStore.warmUp();
+        warmParkingService = new ParkingService(
+                new WriteThroughCarRepository(EmptyRepositories.empty(CarRepository.class), parkedVehicleStore),
+                new WriteThroughMotorcycleRepository(EmptyRepositories.empty(MotorcycleRepository.class),
+                        parkedVehicleStore),
+                new WriteThroughVehicleRepository(EmptyRepositories.empty(VehicleRepository.class),
+                        parkedVehicleStore),
+                EmptyRepositories.empty(TariffRepository.class), EmptyRepositories.empty(ParkingLotRepository.class),
+                EmptyRepositories.empty(TicketRepository.class));
+    }
+
+    @Benchmark
+    public List<Vehicle> coldListing() {
+        FirstList firstList = new FirstList();
+        ParkingService coldParkingService = new ParkingService(EmptyRepositories.empty(CarRepository.class),
+                EmptyRepositories.empty(MotorcycleRepository.class), storedRows,
+                EmptyRepositories.empty(TariffRepository.class), EmptyRepositories.empty(ParkingLotRepository.class),
+                EmptyRepositories.empty(TicketRepository.class));
+        coldParkingService.addVehicleObserver(firstList);
+        return firstList.vehicles;
+    }
+
+    @Benchmark
+    public List<Vehicle> warmListing() {
+        FirstList firstList = new FirstList();
+        warmParkingService.addVehicleObserver(firstList);
+        warmParkingService.removeVehicleObserver(firstList);
+        return firstList.vehicles;
+    }
+
+    private static final class FirstList implements VehicleObserver {
+
+        private List<Vehicle> vehicles;
+
+        @Override
+        public void onVehiclesChanged(List<Vehicle> vehicles) {
+            this.vehicles = vehicles;
+        }
+    }
+
+    /**
+     * Vehicles kept as the primitive columns Room stores, rebuilt on every query the way the
+     * cursor translation does.
+     */
+    private static final class StoredRows implements VehicleRepository {
+
+        private final int[] types;
+        private final String[] licensePlates;
+        private final long[] entryMillis;
+        private final int[] cylinderCapacities;
+
+        StoredRows(List<Vehicle> population) {
+            int size = population.size();
+            types = new int[size];
+            licensePlates = new String[size];
+            entryMillis = new long[size];
+            cylinderCapacities = new int[size];
+            for (int i = 0; i < size; i++) {
+                Vehicle vehicle = population.get(i);
+                types[i] = vehicle.getType();
+                licensePlates[i] = vehicle.getLicensePlate();
+                entryMillis[i] = vehicle.getEntryMillis();
+                cylinderCapacities[i] = vehicle.getCylinderCapacity();
+            }
+        }
+
+        @Override
+        public List<Vehicle> getVehicles() {
+            List<Vehicle> vehicles = new ArrayList<>(types.length);
+            for (int i = 0; i < types.length; i++) {
+                if (types[i] == VehicleType.CAR) {
+                    vehicles.add(new Car(licensePlates[i], EpochMillis.toLocalDateTime(entryMillis[i])));
+                } else {
+                    vehicles.add(new Motorcycle(licensePlates[i], EpochMillis.toLocalDateTime(entryMillis[i]),
+                            cylinderCapacities[i]));
+                }
+            }
+            return vehicles;
+        }
+
+        @Override
+        public List<Vehicle> getVehicles(int offset, int limit) {
+            List<Vehicle> vehicles = getVehicles();
+            return vehicles.subList(Math.min(offset, vehicles.size()), Math.min(offset + limit, vehicles.size()));
+        }
+
+        @Override
+        public List<Vehicle> getVehiclesInLot(int lotId) {
+            List<Vehicle> vehicles = new ArrayList<>();
+            for (Vehicle vehicle : getVehicles()) {
+                if (vehicle.getLotId() == lotId) {
+                    vehicles.add(vehicle);
+                }
+            }
+            return vehicles;
+        }
+
+        @Override
+        public List<String> getLicensePlates() {
+            List<String> plates = new ArrayList<>(licensePlates.length);
+            for (String licensePlate : licensePlates) {
+                plates.add(licensePlate);
+            }
+            return plates;
+        }
+
+        @Override
+        public void saveVehicles(List<? extends Vehicle> vehicles) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addVehicleObserver(VehicleObserver vehicleObserver) {
+            vehicleObserver.onVehiclesChanged(getVehicles());
+        }
+
+        @Override
+        public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.benchmark.support;
+
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Repositories that store nothing, so benchmarks measure the domain code alone.
+ */
+public final class EmptyRepositories {
+
+    private EmptyRepositories() {}
+
+    public static ParkingService parkingService() {
+        return new ParkingService(empty(CarRepository.class), empty(MotorcycleRepository.class),
+                empty(VehicleRepository.class), empty(TariffRepository.class), empty(ParkingLotRepository.class),
+                empty(TicketRepository.class));
+    }
+
+    public static <T> T empty(Class<T> repository) {
+        Object proxy = Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (instance, method, arguments) -> emptyValue(method.getReturnType()));
+        return repository.cast(proxy);
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == List.class) {
+            return Collections.emptyList();
+        }
+        return null;
+    }
+}
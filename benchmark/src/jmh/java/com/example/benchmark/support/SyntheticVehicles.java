@@ -0,0 +1,38 @@
+package com.example.benchmark.support;
+
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible populations of parked vehicles, with stays spread over the last two weeks.
+ */
+public final class SyntheticVehicles {
+
+    public static final LocalDateTime EXIT_DATE = LocalDateTime.of(2021, 6, 7, 18, 30, 0);
+    private static final int MINUTES_IN_TWO_WEEKS = 14 * 24 * 60;
+    private static final int MOTORCYCLE_SHARE = 3;
+
+    private SyntheticVehicles() {}
+
+    public static List<Vehicle> population(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Vehicle> vehicles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime entryDate = EXIT_DATE.minusMinutes(random.nextInt(MINUTES_IN_TWO_WEEKS));
+            String licensePlate = String.format("%c%c%c-%03d", 'A' + random.nextInt(26),
+                    'A' + random.nextInt(26), 'A' + random.nextInt(26), i % 1000);
+            if (random.nextInt(MOTORCYCLE_SHARE) == 0) {
+                vehicles.add(new Motorcycle(licensePlate, entryDate, 100 + random.nextInt(900)));
+            } else {
+                vehicles.add(new Car(licensePlate, entryDate));
+            }
+        }
+        return vehicles;
+    }
+}
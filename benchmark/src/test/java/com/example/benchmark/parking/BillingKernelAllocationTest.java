@@ -0,0 +1,26 @@
+package com.example.benchmark.parking;
+
+import com.example.benchmark.support.AllocationProfiler;
+
+import org.junit.Test;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertTrue;
+
+public class BillingKernelAllocationTest {
+
+    private static final double MAX_BYTES_PER_BILL = 1.0;
+
+    @Test
+    public void calculateParkingCost_gcProfiler_allocationFree() throws RunnerException {
+        //Act
+        Map<String, Double> allocatedBytes = AllocationProfiler.allocatedBytesPerOperation(BillingKernelBenchmark.class);
+        //Assert
+        for (Map.Entry<String, Double> benchmark : allocatedBytes.entrySet()) {
+            assertTrue(benchmark.getKey() + " allocates " + benchmark.getValue() + " B/op",
+                    benchmark.getValue() < MAX_BYTES_PER_BILL);
+        }
+    }
+}
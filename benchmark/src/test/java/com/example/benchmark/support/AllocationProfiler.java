@@ -0,0 +1,54 @@
+package com.example.benchmark.support;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs a benchmark class in-process under the JMH GC profiler, for tests that guard a path
+ * against allocating.
+ */
+public final class AllocationProfiler {
+
+    private static final String ALLOCATION_RATE_NORM = "gc.alloc.rate.norm";
+
+    private AllocationProfiler() {}
+
+    /**
+     * @return the bytes allocated per operation by every benchmark method of the class
+     */
+    public static Map<String, Double> allocatedBytesPerOperation(Class<?> benchmark) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(benchmark.getName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.milliseconds(500))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.milliseconds(500))
+                .build();
+        Map<String, Double> allocatedBytes = new LinkedHashMap<>();
+        for (RunResult runResult : new Runner(options).run()) {
+            allocatedBytes.put(runResult.getParams().getBenchmark(), allocatedBytesPerOperation(runResult));
+        }
+        return allocatedBytes;
+    }
+
+    private static double allocatedBytesPerOperation(RunResult runResult) {
+        for (String label : runResult.getSecondaryResults().keySet()) {
+            if (label.endsWith(ALLOCATION_RATE_NORM)) {
+                Result<?> result = runResult.getSecondaryResults().get(label);
+                return result.getScore();
+            }
+        }
+        throw new AssertionError("The GC profiler did not report " + ALLOCATION_RATE_NORM);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class BlacklistedVehicleException extends RuntimeException {
+
+    private static final String BLACKLISTED_VEHICLE = "The vehicle's license plate is not allowed in the parking lot.";
+
+    public BlacklistedVehicleException() {
+        super(BLACKLISTED_VEHICLE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.domain.parking.exception;
+
+public class InvalidAccessRuleException extends RuntimeException {
+
+    private static final String INVALID_ACCESS_RULE = "The access rule must cover at least one day, "
+            + "a time window within the day and digits from 0 to 9.";
+
+    public InvalidAccessRuleException() {
+        super(INVALID_ACCESS_RULE);
+    }
+}
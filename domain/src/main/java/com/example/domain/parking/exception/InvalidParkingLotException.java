@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class InvalidParkingLotException extends RuntimeException {
+
+    private static final String INVALID_PARKING_LOT = "The parking lot must give every vehicle class a capacity of zero or more.";
+
+    public InvalidParkingLotException() {
+        super(INVALID_PARKING_LOT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class InvalidTariffException extends RuntimeException {
+
+    private static final String INVALID_TARIFF = "The tariff must price every vehicle class exactly once.";
+
+    public InvalidTariffException() {
+        super(INVALID_TARIFF);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.domain.parking.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public class ParkingBusyException extends RejectedExecutionException {
+
+    private static final String PARKING_BUSY = "The parking service is busy, try again in a moment.";
+
+    public ParkingBusyException() {
+        super(PARKING_BUSY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class ParkingLotNotFoundException extends RuntimeException {
+
+    private static final String PARKING_LOT_NOT_FOUND = "The parking lot does not exist.";
+
+    public ParkingLotNotFoundException() {
+        super(PARKING_LOT_NOT_FOUND);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class VehicleAlreadyParkedException extends RuntimeException {
+
+    private static final String VEHICLE_ALREADY_PARKED = "A vehicle with this license plate is already parked.";
+
+    public VehicleAlreadyParkedException() {
+        super(VEHICLE_ALREADY_PARKED);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.domain.parking.exception;
+
+public class VehicleNotParkedException extends RuntimeException {
+
+    private static final String VEHICLE_NOT_PARKED = "The vehicle with this license plate is no longer parked.";
+
+    public VehicleNotParkedException() {
+        super(VEHICLE_NOT_PARKED);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.domain.parking.executor;
+
+import com.example.domain.parking.exception.ParkingBusyException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool that rejects with a {@link ParkingBusyException} once its queue is full.
+ */
+class InstrumentedLane extends ThreadPoolExecutor {
+
+    private final String name;
+    private final int queueCapacity;
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder failedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    InstrumentedLane(String name, int threads, int queueCapacity) {
+        super(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        setThreadFactory(runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedTasks.increment();
+            throw new ParkingBusyException();
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(new TimedTask(command, System.nanoTime()));
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        if (runnable instanceof TimedTask) {
+            long latencyNanos = System.nanoTime() - ((TimedTask) runnable).submittedNanos;
+            if (failed(((TimedTask) runnable).task, throwable)) {
+                failedTasks.increment();
+            } else {
+                completedTasks.increment();
+            }
+            totalLatencyNanos.add(latencyNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+    }
+
+    LaneMetrics getMetrics() {
+        return new LaneMetrics(name, getQueue().size(), queueCapacity, getActiveCount(), completedTasks.sum(),
+                failedTasks.sum(), rejectedTasks.sum(), totalLatencyNanos.sum(), maxLatencyNanos.get());
+    }
+
+    /**
+     * A task given to {@code submit} keeps its exception in its future instead of throwing it.
+     */
+    private static boolean failed(Runnable task, Throwable throwable) {
+        if (throwable != null) {
+            return true;
+        }
+        if (task instanceof Future<?> && ((Future<?>) task).isDone()) {
+            try {
+                ((Future<?>) task).get();
+            } catch (CancellationException | ExecutionException e) {
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return false;
+    }
+
+    private static final class TimedTask implements Runnable {
+
+        private final Runnable task;
+        private final long submittedNanos;
+
+        private TimedTask(Runnable task, long submittedNanos) {
+            this.task = task;
+            this.submittedNanos = submittedNanos;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
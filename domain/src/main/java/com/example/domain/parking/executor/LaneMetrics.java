@@ -0,0 +1,70 @@
+package com.example.domain.parking.executor;
+
+/**
+ * Snapshot of one lane of the {@link ParkingExecutor}. Latencies include the time queued.
+ */
+public class LaneMetrics {
+
+    private final String name;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final int activeTasks;
+    private final long completedTasks;
+    private final long failedTasks;
+    private final long rejectedTasks;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    public LaneMetrics(String name, int queueDepth, int queueCapacity, int activeTasks, long completedTasks,
+                       long failedTasks, long rejectedTasks, long totalLatencyNanos, long maxLatencyNanos) {
+        this.name = name;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.activeTasks = activeTasks;
+        this.completedTasks = completedTasks;
+        this.failedTasks = failedTasks;
+        this.rejectedTasks = rejectedTasks;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getActiveTasks() {
+        return activeTasks;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    /**
+     * Tasks that threw, or were cancelled, instead of completing.
+     */
+    public long getFailedTasks() {
+        return failedTasks;
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks;
+    }
+
+    public long getAverageLatencyNanos() {
+        long finishedTasks = completedTasks + failedTasks;
+        return finishedTasks == 0 ? 0 : totalLatencyNanos / finishedTasks;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+}
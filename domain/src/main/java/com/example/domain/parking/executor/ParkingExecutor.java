@@ -0,0 +1,47 @@
+package com.example.domain.parking.executor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Application-wide threads: a single-threaded writer lane, so changes run in submission order,
+ * and a parallel reader lane for queries.
+ */
+public class ParkingExecutor {
+
+    private static final String WRITER_LANE = "parking-writer";
+    private static final String READER_LANE = "parking-reader";
+    private final InstrumentedLane writer;
+    private final InstrumentedLane reader;
+
+    public ParkingExecutor(int readerThreads, int queueCapacity) {
+        this.writer = new InstrumentedLane(WRITER_LANE, 1, queueCapacity);
+        this.reader = new InstrumentedLane(READER_LANE, readerThreads, queueCapacity);
+    }
+
+    /**
+     * Serialized lane for everything that changes the stored vehicles.
+     */
+    public ExecutorService getWriter() {
+        return writer;
+    }
+
+    /**
+     * Parallel lane for queries.
+     */
+    public ExecutorService getReader() {
+        return reader;
+    }
+
+    public LaneMetrics getWriterMetrics() {
+        return writer.getMetrics();
+    }
+
+    public LaneMetrics getReaderMetrics() {
+        return reader.getMetrics();
+    }
+
+    public void shutdown() {
+        writer.shutdown();
+        reader.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.domain.parking.metrics;
+
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+
+import java.util.List;
+
+/**
+ * {@link CarRepository} that records the latency of every call in {@link ParkingMetrics}.
+ */
+public class InstrumentedCarRepository implements CarRepository {
+
+    private final CarRepository delegate;
+    private final ParkingMetrics parkingMetrics;
+    private final OperationStats saveCarOperation;
+    private final OperationStats deleteCarOperation;
+    private final OperationStats saveCarsOperation;
+    private final OperationStats deleteCarsOperation;
+    private final OperationStats getNumberOfCarsOperation;
+    private final OperationStats getCarsOperation;
+    private final OperationStats findCarByLicensePlateOperation;
+    private final OperationStats existsCarByLicensePlateOperation;
+
+    public InstrumentedCarRepository(CarRepository delegate, ParkingMetrics parkingMetrics) {
+        this.delegate = delegate;
+        this.parkingMetrics = parkingMetrics;
+        this.saveCarOperation = parkingMetrics.repositoryOperation("carRepository.saveCar");
+        this.deleteCarOperation = parkingMetrics.repositoryOperation("carRepository.deleteCar");
+        this.saveCarsOperation = parkingMetrics.repositoryOperation("carRepository.saveCars");
+        this.deleteCarsOperation = parkingMetrics.repositoryOperation("carRepository.deleteCars");
+        this.getNumberOfCarsOperation = parkingMetrics.repositoryOperation("carRepository.getNumberOfCars");
+        this.getCarsOperation = parkingMetrics.repositoryOperation("carRepository.getCars");
+        this.findCarByLicensePlateOperation = parkingMetrics.repositoryOperation("carRepository.findCarByLicensePlate");
+        this.existsCarByLicensePlateOperation = parkingMetrics.repositoryOperation("carRepository.existsCarByLicensePlate");
+    }
+
+    @Override
+    public void saveCar(Car car) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.saveCar(car);
+        } finally {
+            parkingMetrics.recordRepository(saveCarOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void deleteCar(Car car) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.deleteCar(car);
+        } finally {
+            parkingMetrics.recordRepository(deleteCarOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void saveCars(List<Car> cars) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.saveCars(cars);
+        } finally {
+            parkingMetrics.recordRepository(saveCarsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void deleteCars(List<Car> cars) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.deleteCars(cars);
+        } finally {
+            parkingMetrics.recordRepository(deleteCarsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public int getNumberOfCars(int lotId) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getNumberOfCars(lotId);
+        } finally {
+            parkingMetrics.recordRepository(getNumberOfCarsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<Car> getCars() {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getCars();
+        } finally {
+            parkingMetrics.recordRepository(getCarsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public Car findCarByLicensePlate(String licensePlate) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.findCarByLicensePlate(licensePlate);
+        } finally {
+            parkingMetrics.recordRepository(findCarByLicensePlateOperation, startNanos);
+        }
+    }
+
+    @Override
+    public boolean existsCarByLicensePlate(String licensePlate) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.existsCarByLicensePlate(licensePlate);
+        } finally {
+            parkingMetrics.recordRepository(existsCarByLicensePlateOperation, startNanos);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.domain.parking.metrics;
+
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+
+import java.util.List;
+
+/**
+ * {@link MotorcycleRepository} that records the latency of every call in {@link ParkingMetrics}.
+ */
+public class InstrumentedMotorcycleRepository implements MotorcycleRepository {
+
+    private final MotorcycleRepository delegate;
+    private final ParkingMetrics parkingMetrics;
+    private final OperationStats saveMotorcycleOperation;
+    private final OperationStats deleteMotorcycleOperation;
+    private final OperationStats saveMotorcyclesOperation;
+    private final OperationStats deleteMotorcyclesOperation;
+    private final OperationStats getNumberOfMotorcyclesOperation;
+    private final OperationStats getMotorcyclesOperation;
+    private final OperationStats findMotorcycleByLicensePlateOperation;
+    private final OperationStats existsMotorcycleByLicensePlateOperation;
+
+    public InstrumentedMotorcycleRepository(MotorcycleRepository delegate, ParkingMetrics parkingMetrics) {
+        this.delegate = delegate;
+        this.parkingMetrics = parkingMetrics;
+        this.saveMotorcycleOperation = parkingMetrics.repositoryOperation("motorcycleRepository.saveMotorcycle");
+        this.deleteMotorcycleOperation = parkingMetrics.repositoryOperation("motorcycleRepository.deleteMotorcycle");
+        this.saveMotorcyclesOperation = parkingMetrics.repositoryOperation("motorcycleRepository.saveMotorcycles");
+        this.deleteMotorcyclesOperation = parkingMetrics.repositoryOperation("motorcycleRepository.deleteMotorcycles");
+        this.getNumberOfMotorcyclesOperation = parkingMetrics.repositoryOperation("motorcycleRepository.getNumberOfMotorcycles");
+        this.getMotorcyclesOperation = parkingMetrics.repositoryOperation("motorcycleRepository.getMotorcycles");
+        this.findMotorcycleByLicensePlateOperation = parkingMetrics.repositoryOperation("motorcycleRepository.findMotorcycleByLicensePlate");
+        this.existsMotorcycleByLicensePlateOperation = parkingMetrics.repositoryOperation("motorcycleRepository.existsMotorcycleByLicensePlate");
+    }
+
+    @Override
+    public void saveMotorcycle(Motorcycle motorcycle) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.saveMotorcycle(motorcycle);
+        } finally {
+            parkingMetrics.recordRepository(saveMotorcycleOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void deleteMotorcycle(Motorcycle motorcycle) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.deleteMotorcycle(motorcycle);
+        } finally {
+            parkingMetrics.recordRepository(deleteMotorcycleOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void saveMotorcycles(List<Motorcycle> motorcycles) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.saveMotorcycles(motorcycles);
+        } finally {
+            parkingMetrics.recordRepository(saveMotorcyclesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void deleteMotorcycles(List<Motorcycle> motorcycles) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.deleteMotorcycles(motorcycles);
+        } finally {
+            parkingMetrics.recordRepository(deleteMotorcyclesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public int getNumberOfMotorcycles(int lotId) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getNumberOfMotorcycles(lotId);
+        } finally {
+            parkingMetrics.recordRepository(getNumberOfMotorcyclesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<Motorcycle> getMotorcycles() {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getMotorcycles();
+        } finally {
+            parkingMetrics.recordRepository(getMotorcyclesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public Motorcycle findMotorcycleByLicensePlate(String licensePlate) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.findMotorcycleByLicensePlate(licensePlate);
+        } finally {
+            parkingMetrics.recordRepository(findMotorcycleByLicensePlateOperation, startNanos);
+        }
+    }
+
+    @Override
+    public boolean existsMotorcycleByLicensePlate(String licensePlate) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.existsMotorcycleByLicensePlate(licensePlate);
+        } finally {
+            parkingMetrics.recordRepository(existsMotorcycleByLicensePlateOperation, startNanos);
+        }
+    }
+}
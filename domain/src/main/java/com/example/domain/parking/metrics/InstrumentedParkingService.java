@@ -0,0 +1,155 @@
+package com.example.domain.parking.metrics;
+
+import com.example.domain.parking.model.RevenueProjection;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link ParkingService} that records the latency of every check-in, check-out and listing in
+ * {@link ParkingMetrics}, split between repository and domain time. The repositories it is given
+ * are wrapped so their calls are recorded too.
+ */
+public class InstrumentedParkingService extends ParkingService {
+
+    private final ParkingMetrics parkingMetrics;
+    private final OperationStats saveCarOperation;
+    private final OperationStats saveMotorcycleOperation;
+    private final OperationStats saveVehiclesOperation;
+    private final OperationStats deleteCarOperation;
+    private final OperationStats deleteMotorcycleOperation;
+    private final OperationStats checkOutVehiclesOperation;
+    private final OperationStats getVehiclesOperation;
+    private final OperationStats getVehiclesPageOperation;
+    private final OperationStats projectRevenueOperation;
+
+    public InstrumentedParkingService(CarRepository carRepository, MotorcycleRepository motorcycleRepository,
+                                      VehicleRepository vehicleRepository, TariffRepository tariffRepository,
+                                      ParkingLotRepository parkingLotRepository, TicketRepository ticketRepository,
+                                      ParkingMetrics parkingMetrics) {
+        super(new InstrumentedCarRepository(carRepository, parkingMetrics),
+                new InstrumentedMotorcycleRepository(motorcycleRepository, parkingMetrics),
+                new InstrumentedVehicleRepository(vehicleRepository, parkingMetrics), tariffRepository,
+                parkingLotRepository, new InstrumentedTicketRepository(ticketRepository, parkingMetrics));
+        this.parkingMetrics = parkingMetrics;
+        this.saveCarOperation = parkingMetrics.serviceOperation("parkingService.saveCar");
+        this.saveMotorcycleOperation = parkingMetrics.serviceOperation("parkingService.saveMotorcycle");
+        this.saveVehiclesOperation = parkingMetrics.serviceOperation("parkingService.saveVehicles");
+        this.deleteCarOperation = parkingMetrics.serviceOperation("parkingService.deleteCar");
+        this.deleteMotorcycleOperation = parkingMetrics.serviceOperation("parkingService.deleteMotorcycle");
+        this.checkOutVehiclesOperation = parkingMetrics.serviceOperation("parkingService.checkOutVehicles");
+        this.getVehiclesOperation = parkingMetrics.serviceOperation("parkingService.getVehicles");
+        this.getVehiclesPageOperation = parkingMetrics.serviceOperation("parkingService.getVehiclesPage");
+        this.projectRevenueOperation = parkingMetrics.serviceOperation("parkingService.projectRevenue");
+    }
+
+    @Override
+    public void saveCar(Car car, int currentDay) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            super.saveCar(car, currentDay);
+        } finally {
+            parkingMetrics.recordService(saveCarOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public void saveMotorcycle(Motorcycle motorcycle, int currentDay) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            super.saveMotorcycle(motorcycle, currentDay);
+        } finally {
+            parkingMetrics.recordService(saveMotorcycleOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public void saveVehicles(List<Vehicle> vehicles) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            super.saveVehicles(vehicles);
+        } finally {
+            parkingMetrics.recordService(saveVehiclesOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public void deleteCar(Car car) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            super.deleteCar(car);
+        } finally {
+            parkingMetrics.recordService(deleteCarOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public void deleteMotorcycle(Motorcycle motorcycle) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            super.deleteMotorcycle(motorcycle);
+        } finally {
+            parkingMetrics.recordService(deleteMotorcycleOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public List<Ticket> checkOutVehicles(List<Vehicle> vehicles, LocalDateTime exitDate) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            return super.checkOutVehicles(vehicles, exitDate);
+        } finally {
+            parkingMetrics.recordService(checkOutVehiclesOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public List<Vehicle> getVehicles() {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            return super.getVehicles();
+        } finally {
+            parkingMetrics.recordService(getVehiclesOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            return super.getVehicles(offset, limit);
+        } finally {
+            parkingMetrics.recordService(getVehiclesPageOperation, startNanos, repositoryStartNanos);
+        }
+    }
+
+    @Override
+    public RevenueProjection projectRevenue(LocalDateTime exitDate) {
+        long startNanos = System.nanoTime();
+        long repositoryStartNanos = parkingMetrics.repositoryNanos();
+        try {
+            return super.projectRevenue(exitDate);
+        } finally {
+            parkingMetrics.recordService(projectRevenueOperation, startNanos, repositoryStartNanos);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.domain.parking.metrics;
+
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.TicketRepository;
+
+import java.util.List;
+
+/**
+ * {@link TicketRepository} that records the latency of every call in {@link ParkingMetrics}.
+ */
+public class InstrumentedTicketRepository implements TicketRepository {
+
+    private final TicketRepository delegate;
+    private final ParkingMetrics parkingMetrics;
+    private final OperationStats archiveTicketsOperation;
+    private final OperationStats getTicketsOperation;
+    private final OperationStats pruneTicketsOperation;
+    private final OperationStats getHourlyRollupsOperation;
+    private final OperationStats getDailyRollupsOperation;
+    private final OperationStats rebuildRollupsOperation;
+
+    public InstrumentedTicketRepository(TicketRepository delegate, ParkingMetrics parkingMetrics) {
+        this.delegate = delegate;
+        this.parkingMetrics = parkingMetrics;
+        this.archiveTicketsOperation = parkingMetrics.repositoryOperation("ticketRepository.archiveTickets");
+        this.getTicketsOperation = parkingMetrics.repositoryOperation("ticketRepository.getTickets");
+        this.pruneTicketsOperation = parkingMetrics.repositoryOperation("ticketRepository.pruneTickets");
+        this.getHourlyRollupsOperation = parkingMetrics.repositoryOperation("ticketRepository.getHourlyRollups");
+        this.getDailyRollupsOperation = parkingMetrics.repositoryOperation("ticketRepository.getDailyRollups");
+        this.rebuildRollupsOperation = parkingMetrics.repositoryOperation("ticketRepository.rebuildRollups");
+    }
+
+    @Override
+    public void archiveTickets(List<Ticket> tickets) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.archiveTickets(tickets);
+        } finally {
+            parkingMetrics.recordRepository(archiveTicketsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<Ticket> getTickets(long fromExitDay, long toExitDay) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getTickets(fromExitDay, toExitDay);
+        } finally {
+            parkingMetrics.recordRepository(getTicketsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public int pruneTickets(long beforeExitDay) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.pruneTickets(beforeExitDay);
+        } finally {
+            parkingMetrics.recordRepository(pruneTicketsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<RevenueRollup> getHourlyRollups(long fromExitHour, long toExitHour) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getHourlyRollups(fromExitHour, toExitHour);
+        } finally {
+            parkingMetrics.recordRepository(getHourlyRollupsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<RevenueRollup> getDailyRollups(long fromExitDay, long toExitDay) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getDailyRollups(fromExitDay, toExitDay);
+        } finally {
+            parkingMetrics.recordRepository(getDailyRollupsOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void rebuildRollups() {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.rebuildRollups();
+        } finally {
+            parkingMetrics.recordRepository(rebuildRollupsOperation, startNanos);
+        }
+    }
+}
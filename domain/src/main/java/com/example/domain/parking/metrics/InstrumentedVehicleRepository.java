@@ -0,0 +1,101 @@
+package com.example.domain.parking.metrics;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import java.util.List;
+
+/**
+ * {@link VehicleRepository} that records the latency of every query in {@link ParkingMetrics}.
+ */
+public class InstrumentedVehicleRepository implements VehicleRepository {
+
+    private final VehicleRepository delegate;
+    private final ParkingMetrics parkingMetrics;
+    private final OperationStats getVehiclesOperation;
+    private final OperationStats getVehiclesPageOperation;
+    private final OperationStats getVehiclesInLotOperation;
+    private final OperationStats getLicensePlatesOperation;
+    private final OperationStats saveVehiclesOperation;
+    private final OperationStats addVehicleObserverOperation;
+
+    public InstrumentedVehicleRepository(VehicleRepository delegate, ParkingMetrics parkingMetrics) {
+        this.delegate = delegate;
+        this.parkingMetrics = parkingMetrics;
+        this.getVehiclesOperation = parkingMetrics.repositoryOperation("vehicleRepository.getVehicles");
+        this.getVehiclesPageOperation = parkingMetrics.repositoryOperation("vehicleRepository.getVehiclesPage");
+        this.getVehiclesInLotOperation = parkingMetrics.repositoryOperation("vehicleRepository.getVehiclesInLot");
+        this.getLicensePlatesOperation = parkingMetrics.repositoryOperation("vehicleRepository.getLicensePlates");
+        this.saveVehiclesOperation = parkingMetrics.repositoryOperation("vehicleRepository.saveVehicles");
+        this.addVehicleObserverOperation = parkingMetrics.repositoryOperation("vehicleRepository.addVehicleObserver");
+    }
+
+    @Override
+    public List<Vehicle> getVehicles() {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getVehicles();
+        } finally {
+            parkingMetrics.recordRepository(getVehiclesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getVehicles(offset, limit);
+        } finally {
+            parkingMetrics.recordRepository(getVehiclesPageOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<Vehicle> getVehiclesInLot(int lotId) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getVehiclesInLot(lotId);
+        } finally {
+            parkingMetrics.recordRepository(getVehiclesInLotOperation, startNanos);
+        }
+    }
+
+    @Override
+    public List<String> getLicensePlates() {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getLicensePlates();
+        } finally {
+            parkingMetrics.recordRepository(getLicensePlatesOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void saveVehicles(List<? extends Vehicle> vehicles) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.saveVehicles(vehicles);
+        } finally {
+            parkingMetrics.recordRepository(saveVehiclesOperation, startNanos);
+        }
+    }
+
+    /**
+     * Timed as well, since the first observer loads every parked vehicle.
+     */
+    @Override
+    public void addVehicleObserver(VehicleObserver vehicleObserver) {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.addVehicleObserver(vehicleObserver);
+        } finally {
+            parkingMetrics.recordRepository(addVehicleObserverOperation, startNanos);
+        }
+    }
+
+    @Override
+    public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        delegate.removeVehicleObserver(vehicleObserver);
+    }
+}
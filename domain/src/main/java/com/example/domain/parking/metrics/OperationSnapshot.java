@@ -0,0 +1,90 @@
+package com.example.domain.parking.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of one operation at the time of the snapshot, in nanoseconds.
+ */
+public class OperationSnapshot {
+
+    private final String name;
+    private final boolean repository;
+    private final long count;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+    private final long totalNanos;
+    private final long repositoryNanos;
+
+    public OperationSnapshot(String name, boolean repository, long count, long p50Nanos, long p99Nanos,
+                             long p999Nanos, long maxNanos, long totalNanos, long repositoryNanos) {
+        this.name = name;
+        this.repository = repository;
+        this.count = count;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+        this.totalNanos = totalNanos;
+        this.repositoryNanos = repositoryNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isRepository() {
+        return repository;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Time spent in repository calls, which for a repository operation is all of it.
+     */
+    public long getRepositoryNanos() {
+        return repositoryNanos;
+    }
+
+    public long getDomainNanos() {
+        return totalNanos - repositoryNanos;
+    }
+
+    /**
+     * One line for a log dump, with latencies in microseconds.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s count=%d p50=%d p99=%d p999=%d max=%d repository=%d domain=%d (us)",
+                name, count, micros(p50Nanos), micros(p99Nanos), micros(p999Nanos), micros(maxNanos),
+                micros(repositoryNanos), micros(getDomainNanos()));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.domain.parking.metrics;
+
+/**
+ * Latencies of one instrumented operation. Service operations also keep how much of their time
+ * was spent inside repositories.
+ */
+public class OperationStats {
+
+    private final String name;
+    private final boolean repository;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram repositoryLatency = new LatencyHistogram();
+
+    OperationStats(String name, boolean repository) {
+        this.name = name;
+        this.repository = repository;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isRepository() {
+        return repository;
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    LatencyHistogram getRepositoryLatency() {
+        return repositoryLatency;
+    }
+
+    OperationSnapshot snapshot() {
+        long repositoryNanos = repository ? latency.getTotalNanos() : repositoryLatency.getTotalNanos();
+        return new OperationSnapshot(name, repository, latency.getCount(),
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                latency.getValueAtPercentile(99.9), latency.getMaxNanos(), latency.getTotalNanos(),
+                repositoryNanos);
+    }
+}
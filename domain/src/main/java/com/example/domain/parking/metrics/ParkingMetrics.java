@@ -0,0 +1,61 @@
+package com.example.domain.parking.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registry of the latencies recorded by the instrumented service and repositories.
+ *
+ * <p>Repository time is also added to a per-thread running total. A service operation reads that
+ * total before and after running, which tells apart the time spent in repository calls from the
+ * time spent in domain code without passing anything through the calls. Check-ins only append to a
+ * journal that is flushed later, so repository time does not include that database write.</p>
+ */
+public class ParkingMetrics {
+
+    private final Map<String, OperationStats> operations = new ConcurrentSkipListMap<>();
+    private final ThreadLocal<long[]> repositoryNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    public OperationStats serviceOperation(String name) {
+        return operations.computeIfAbsent(name, operation -> new OperationStats(operation, false));
+    }
+
+    public OperationStats repositoryOperation(String name) {
+        return operations.computeIfAbsent(name, operation -> new OperationStats(operation, true));
+    }
+
+    /**
+     * Repository time spent so far on the calling thread, to pass back to
+     * {@link #recordService(OperationStats, long, long)}.
+     */
+    public long repositoryNanos() {
+        return repositoryNanos.get()[0];
+    }
+
+    public void recordService(OperationStats operation, long startNanos, long repositoryStartNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        operation.getLatency().record(elapsedNanos);
+        operation.getRepositoryLatency().record(repositoryNanos() - repositoryStartNanos);
+    }
+
+    public void recordRepository(OperationStats operation, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        operation.getLatency().record(elapsedNanos);
+        repositoryNanos.get()[0] += elapsedNanos;
+    }
+
+    /**
+     * Latencies of every operation recorded at least once, ordered by name.
+     */
+    public List<OperationSnapshot> snapshot() {
+        List<OperationSnapshot> snapshots = new ArrayList<>(operations.size());
+        for (OperationStats operation : operations.values()) {
+            if (operation.getLatency().getCount() > 0) {
+                snapshots.add(operation.snapshot());
+            }
+        }
+        return snapshots;
+    }
+}
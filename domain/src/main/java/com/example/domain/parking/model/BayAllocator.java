@@ -0,0 +1,88 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.util.BitSet;
+
+/**
+ * Bays of one vehicle class in one lot, numbered from 1 up to the capacity of that class.
+ *
+ * <p>Each bay is one bit, set while a vehicle is parked in it, so handing out a free bay is a
+ * {@link BitSet#nextClearBit(int)} scan over a few words rather than a search through the parked
+ * vehicles. The bits are rebuilt from the stored vehicles whenever the lot is loaded.</p>
+ *
+ * <p>Admission is still gated by the {@link Occupancy} of the class; a bay is taken only once a
+ * space has been reserved there.</p>
+ */
+public class BayAllocator {
+
+    private final int capacity;
+    private final BitSet takenBays;
+
+    public BayAllocator(int capacity) {
+        this.capacity = capacity;
+        this.takenBays = new BitSet(capacity);
+    }
+
+    /**
+     * Takes the lowest-numbered free bay.
+     *
+     * @return the bay, or {@link Vehicle#NO_BAY} if every bay is taken
+     */
+    public synchronized int takeLowestBay() {
+        return take(takenBays.nextClearBit(0));
+    }
+
+    /**
+     * Takes the free bay closest to the given one, the lower-numbered of two equally close bays.
+     *
+     * @return the bay, or {@link Vehicle#NO_BAY} if every bay is taken
+     */
+    public synchronized int takeNearestBay(int bay) {
+        if (capacity == 0) {
+            return Vehicle.NO_BAY;
+        }
+        int index = Math.max(0, Math.min(bay - 1, capacity - 1));
+        int above = takenBays.nextClearBit(index);
+        int below = takenBays.previousClearBit(index);
+        if (above >= capacity) {
+            return take(below);
+        }
+        if (below < 0 || above - index < index - below) {
+            return take(above);
+        }
+        return take(below);
+    }
+
+    /**
+     * Marks the bay of a vehicle already parked as taken. Bays past the capacity, left by vehicles
+     * parked before the lot shrank, are not tracked.
+     */
+    public synchronized void occupyBay(int bay) {
+        if (bay > Vehicle.NO_BAY && bay <= capacity) {
+            takenBays.set(bay - 1);
+        }
+    }
+
+    public synchronized void freeBay(int bay) {
+        if (bay > Vehicle.NO_BAY && bay <= capacity) {
+            takenBays.clear(bay - 1);
+        }
+    }
+
+    public synchronized boolean isFree(int bay) {
+        return bay > Vehicle.NO_BAY && bay <= capacity && !takenBays.get(bay - 1);
+    }
+
+    public synchronized int getFreeBays() {
+        return capacity - takenBays.cardinality();
+    }
+
+    private int take(int index) {
+        if (index < 0 || index >= capacity) {
+            return Vehicle.NO_BAY;
+        }
+        takenBays.set(index);
+        return index + 1;
+    }
+}
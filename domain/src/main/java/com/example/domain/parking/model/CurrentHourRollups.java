@@ -0,0 +1,89 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Rollups of the hour in progress. A check-out calls {@link #track(long)} before writing its
+ * tickets, so each ticket is either in the stored totals or added here, never both.
+ */
+public class CurrentHourRollups {
+
+    private final LongFunction<List<RevenueRollup>> storedRollups;
+    private final RevenueRollup[] rollups = new RevenueRollup[VehicleType.COUNT];
+    private long hour = Long.MIN_VALUE;
+    private long epoch;
+
+    /**
+     * @param storedRollups for an hour counted from the epoch, its rollups already in the repository
+     */
+    public CurrentHourRollups(LongFunction<List<RevenueRollup>> storedRollups) {
+        this.storedRollups = storedRollups;
+    }
+
+    /**
+     * @return the epoch to hand to {@link #add(List, long)} once the tickets are written
+     */
+    public synchronized long track(long exitHour) {
+        if (exitHour > hour) {
+            System.arraycopy(load(exitHour), 0, rollups, 0, VehicleType.COUNT);
+            hour = exitHour;
+        }
+        return epoch;
+    }
+
+    /**
+     * Ignores the tickets if the rollups were invalidated since {@link #track(long)}, as the
+     * reloaded hour already holds them.
+     */
+    public synchronized void add(List<Ticket> tickets, long trackedEpoch) {
+        if (trackedEpoch != epoch) {
+            return;
+        }
+        for (Ticket ticket : tickets) {
+            if (RevenueRollup.exitHourOf(ticket.getExitMillis()) == hour) {
+                rollups[ticket.getVehicleType()].add(ticket);
+            }
+        }
+    }
+
+    public List<RevenueRollup> get(long exitHour) {
+        synchronized (this) {
+            track(exitHour);
+            if (exitHour == hour) {
+                return copyOf(rollups);
+            }
+        }
+        return Arrays.asList(load(exitHour));
+    }
+
+    public synchronized void invalidate() {
+        hour = Long.MIN_VALUE;
+        epoch++;
+    }
+
+    private RevenueRollup[] load(long exitHour) {
+        RevenueRollup[] hourRollups = new RevenueRollup[VehicleType.COUNT];
+        for (int vehicleType = 0; vehicleType < VehicleType.COUNT; vehicleType++) {
+            hourRollups[vehicleType] = new RevenueRollup(exitHour, vehicleType);
+        }
+        for (RevenueRollup storedRollup : storedRollups.apply(exitHour)) {
+            hourRollups[storedRollup.getVehicleType()].add(storedRollup);
+        }
+        return hourRollups;
+    }
+
+    private static List<RevenueRollup> copyOf(RevenueRollup[] hourRollups) {
+        List<RevenueRollup> copies = new ArrayList<>(VehicleType.COUNT);
+        for (RevenueRollup rollup : hourRollups) {
+            RevenueRollup copy = new RevenueRollup(rollup.getBucket(), rollup.getVehicleType());
+            copy.add(rollup);
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.domain.parking.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Converts dates to and from milliseconds. The local date time is read as if it were UTC, so the
+ * difference between two values is exactly what {@code LocalDateTime.until} returns for the
+ * same pair of dates, whatever the device time zone.
+ */
+public final class EpochMillis {
+
+    private static final long MILLISECONDS_IN_A_SECOND = 1000;
+    private static final int NANOSECONDS_IN_A_MILLISECOND = 1000000;
+
+    private EpochMillis() {}
+
+    public static long of(LocalDateTime localDateTime) {
+        return localDateTime.toEpochSecond(ZoneOffset.UTC) * MILLISECONDS_IN_A_SECOND
+                + localDateTime.getNano() / NANOSECONDS_IN_A_MILLISECOND;
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, MILLISECONDS_IN_A_SECOND);
+        int nanoOfSecond = (int) Math.floorMod(epochMillis, MILLISECONDS_IN_A_SECOND) * NANOSECONDS_IN_A_MILLISECOND;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, ZoneOffset.UTC);
+    }
+}
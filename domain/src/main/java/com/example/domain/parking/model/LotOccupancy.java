@@ -0,0 +1,50 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * Occupancy and bays of every vehicle class in one lot. Each lot has counters and bays of its own,
+ * so check-ins at different lots never compete for the same compare-and-set or lock.
+ */
+public class LotOccupancy {
+
+    private final Parking lot;
+    private final Occupancy[] occupancies;
+    private final BayAllocator[] bays;
+
+    /**
+     * @param initialOccupiedSpaces for each {@link VehicleType}, how to count the vehicles of that
+     *                              class already parked in the lot
+     */
+    public LotOccupancy(Parking lot, IntFunction<IntSupplier> initialOccupiedSpaces) {
+        this.lot = lot;
+        this.occupancies = new Occupancy[VehicleType.COUNT];
+        this.bays = new BayAllocator[VehicleType.COUNT];
+        for (int vehicleType = 0; vehicleType < VehicleType.COUNT; vehicleType++) {
+            occupancies[vehicleType] = new Occupancy(lot.getCapacity(vehicleType),
+                    initialOccupiedSpaces.apply(vehicleType));
+            bays[vehicleType] = new BayAllocator(lot.getCapacity(vehicleType));
+        }
+    }
+
+    public Parking getLot() {
+        return lot;
+    }
+
+    /**
+     * @param vehicleType one of the {@link VehicleType} constants
+     */
+    public Occupancy getOccupancy(int vehicleType) {
+        return occupancies[vehicleType];
+    }
+
+    /**
+     * @param vehicleType one of the {@link VehicleType} constants
+     */
+    public BayAllocator getBays(int vehicleType) {
+        return bays[vehicleType];
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.domain.parking.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Number of occupied spaces for one vehicle class.
+ *
+ * <p>The counter is seeded once from the repository on first use and is then kept up to date
+ * by the service on every save and delete, so reading it never touches the database.</p>
+ *
+ * <p>Spaces are taken with {@link #reserveSpace()}, which claims a slot with a compare-and-set
+ * and never lets the counter go past the capacity. A reservation is then either confirmed with
+ * {@link #commitSpace()} once the vehicle is stored or given back with {@link #releaseSpace()}.</p>
+ */
+public class Occupancy {
+
+    private final int capacity;
+    private final IntSupplier initialOccupiedSpaces;
+    private final AtomicInteger occupiedSpaces;
+    private final AtomicInteger reservedSpaces;
+    private volatile boolean loaded;
+
+    public Occupancy(int capacity, IntSupplier initialOccupiedSpaces) {
+        this.capacity = capacity;
+        this.initialOccupiedSpaces = initialOccupiedSpaces;
+        this.occupiedSpaces = new AtomicInteger();
+        this.reservedSpaces = new AtomicInteger();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Occupied spaces, including the ones reserved by check-ins still in progress.
+     */
+    public int getOccupiedSpaces() {
+        load();
+        return occupiedSpaces.get();
+    }
+
+    public int getReservedSpaces() {
+        return reservedSpaces.get();
+    }
+
+    /**
+     * Claims one space.
+     *
+     * @return false if the parking is full, in which case nothing is reserved
+     */
+    public boolean reserveSpace() {
+        return reserveSpaces(1);
+    }
+
+    /**
+     * Claims several spaces at once, all or nothing.
+     *
+     * @return false if there are not enough free spaces, in which case nothing is reserved
+     */
+    public boolean reserveSpaces(int spaces) {
+        load();
+        int occupied;
+        do {
+            occupied = occupiedSpaces.get();
+            if (occupied + spaces > capacity) {
+                return false;
+            }
+        } while (!occupiedSpaces.compareAndSet(occupied, occupied + spaces));
+        reservedSpaces.addAndGet(spaces);
+        return true;
+    }
+
+    public void commitSpace() {
+        commitSpaces(1);
+    }
+
+    public void commitSpaces(int spaces) {
+        reservedSpaces.addAndGet(-spaces);
+    }
+
+    public void releaseSpace() {
+        releaseSpaces(1);
+    }
+
+    public void releaseSpaces(int spaces) {
+        reservedSpaces.addAndGet(-spaces);
+        occupiedSpaces.addAndGet(-spaces);
+    }
+
+    public void freeSpace() {
+        freeSpaces(1);
+    }
+
+    public void freeSpaces(int spaces) {
+        load();
+        occupiedSpaces.updateAndGet(occupied -> Math.max(occupied - spaces, 0));
+    }
+
+    private void load() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    occupiedSpaces.set(initialOccupiedSpaces.getAsInt());
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.domain.parking.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * License plates of every parked vehicle, kept in memory so the duplicate check on entry never
+ * queries the database.
+ *
+ * <p>Like {@link Occupancy}, the set is seeded once from the repository on first use and is then
+ * kept up to date by the service on every save and delete. {@link #add(String)} doubles as a
+ * claim: two check-ins of the same plate racing each other cannot both succeed. Likewise
+ * {@link #remove(String)} claims a check-out, so the same vehicle cannot leave twice.</p>
+ */
+public class ParkedPlates {
+
+    private final Supplier<List<String>> initialLicensePlates;
+    private final Set<String> licensePlates;
+    private volatile boolean loaded;
+
+    public ParkedPlates(Supplier<List<String>> initialLicensePlates) {
+        this.initialLicensePlates = initialLicensePlates;
+        this.licensePlates = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * @return false if the plate is already parked, in which case nothing changes
+     */
+    public boolean add(String licensePlate) {
+        load();
+        return licensePlates.add(licensePlate);
+    }
+
+    /**
+     * @return false if the plate was not parked, in which case nothing changes
+     */
+    public boolean remove(String licensePlate) {
+        load();
+        return licensePlates.remove(licensePlate);
+    }
+
+    public boolean contains(String licensePlate) {
+        load();
+        return licensePlates.contains(licensePlate);
+    }
+
+    public int size() {
+        load();
+        return licensePlates.size();
+    }
+
+    private void load() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    licensePlates.addAll(initialLicensePlates.get());
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.example.domain.parking.model;
 
+import com.example.domain.parking.exception.InvalidParkingLotException;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+/**
+ * Definition of one parking lot, or one level of a building, identified by its lot id: how many
+ * spaces it has for each vehicle class. Prices and access rules are shared by every lot.
+ */
 public class Parking {
 
+    public static final int DEFAULT_LOT_ID = 0;
+    private final int lotId;
+    private final int[] capacities;
     private final Rate carRate;
     private final Rate motorcycleRate;
     private static final int HOUR_LIMIT = 9;
@@ -12,11 +22,55 @@ public class Parking {
     private static final int MAX_NUMBER_OF_CARS = 20;
     private static final int MAX_NUMBER_OF_MOTORCYCLES = 10;
 
+    /**
+     * The built-in lot, used when no lot has been defined.
+     */
     public Parking() {
+        this(DEFAULT_LOT_ID, MAX_NUMBER_OF_CARS, MAX_NUMBER_OF_MOTORCYCLES);
+    }
+
+    public Parking(int lotId, int maxNumberOfCars, int maxNumberOfMotorcycles) {
+        this(lotId, new int[]{maxNumberOfCars, maxNumberOfMotorcycles});
+    }
+
+    /**
+     * @param capacities spaces of each vehicle class, indexed by the {@link VehicleType} constants
+     * @throws InvalidParkingLotException if a class is missing or has a negative capacity
+     */
+    public Parking(int lotId, int[] capacities) {
+        if (capacities.length != VehicleType.COUNT) {
+            throw new InvalidParkingLotException();
+        }
+        for (int capacity : capacities) {
+            if (capacity < 0) {
+                throw new InvalidParkingLotException();
+            }
+        }
+        this.lotId = lotId;
+        this.capacities = capacities.clone();
         carRate = new Rate(1000, 8000, 0);
         motorcycleRate = new Rate(500, 4000, 2000);
     }
 
+    public int getLotId() {
+        return lotId;
+    }
+
+    /**
+     * @param vehicleType one of the {@link VehicleType} constants
+     */
+    public int getCapacity(int vehicleType) {
+        return capacities[vehicleType];
+    }
+
+    public int getTotalCapacity() {
+        int totalCapacity = 0;
+        for (int capacity : capacities) {
+            totalCapacity += capacity;
+        }
+        return totalCapacity;
+    }
+
     public Rate getCarRate() {
         return carRate;
     }
@@ -46,10 +100,10 @@ public class Parking {
     }
 
     public int getMaxNumberOfCars() {
-        return MAX_NUMBER_OF_CARS;
+        return capacities[VehicleType.CAR];
     }
 
     public int getMaxNumberOfMotorcycles() {
-        return MAX_NUMBER_OF_MOTORCYCLES;
+        return capacities[VehicleType.MOTORCYCLE];
     }
 }
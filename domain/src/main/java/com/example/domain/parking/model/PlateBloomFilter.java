@@ -0,0 +1,63 @@
+package com.example.domain.parking.model;
+
+/**
+ * Bloom filter over license plates. It answers "definitely absent" or "maybe present" from a
+ * bit array small enough to stay in cache, whatever the number of plates.
+ */
+public class PlateBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+    private final long[] bits;
+    private final int numberOfBits;
+    private final int numberOfHashes;
+
+    /**
+     * @param expectedPlates    number of plates the filter is sized for
+     * @param falsePositiveRate wanted probability of "maybe present" for an absent plate
+     */
+    public PlateBloomFilter(int expectedPlates, double falsePositiveRate) {
+        int plates = Math.max(expectedPlates, 1);
+        long optimalBits = (long) Math.ceil(-plates * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        this.numberOfBits = (int) Math.min(Math.max(optimalBits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.numberOfHashes = Math.max(1, (int) Math.round((double) numberOfBits / plates * LN_2));
+        this.bits = new long[(numberOfBits + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    public void put(String licensePlate) {
+        int hash = licensePlate.hashCode();
+        int step = mix(hash);
+        for (int i = 0; i < numberOfHashes; i++) {
+            int bit = Math.floorMod(hash + i * step, numberOfBits);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @return false only if the plate was never put in the filter
+     */
+    public boolean mightContain(String licensePlate) {
+        int hash = licensePlate.hashCode();
+        int step = mix(hash);
+        for (int i = 0; i < numberOfHashes; i++) {
+            int bit = Math.floorMod(hash + i * step, numberOfBits);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Second, independent hash derived from the first with the MurmurHash3 finalizer. It is forced
+     * odd so consecutive probes never collapse onto the same bit.
+     */
+    private static int mix(int hash) {
+        int mixed = hash;
+        mixed ^= mixed >>> 16;
+        mixed *= 0x85ebca6b;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xc2b2ae35;
+        mixed ^= mixed >>> 16;
+        return mixed | 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.domain.parking.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable list of plates that get special treatment on entry, such as a blacklist or a list of
+ * permits. Large lists are fronted by a {@link PlateBloomFilter}, so the usual answer for a plate
+ * that is not listed comes from a few cached bits instead of a walk through a large hash table.
+ */
+public final class PlateList {
+
+    public static final PlateList EMPTY = new PlateList(Collections.emptySet());
+    static final int BLOOM_FILTER_THRESHOLD = 1024;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private final Set<String> licensePlates;
+    private final PlateBloomFilter bloomFilter;
+
+    public PlateList(Collection<String> licensePlates) {
+        this.licensePlates = new HashSet<>(licensePlates);
+        if (this.licensePlates.size() > BLOOM_FILTER_THRESHOLD) {
+            bloomFilter = new PlateBloomFilter(this.licensePlates.size(), FALSE_POSITIVE_RATE);
+            this.licensePlates.forEach(bloomFilter::put);
+        } else {
+            bloomFilter = null;
+        }
+    }
+
+    public boolean contains(String licensePlate) {
+        if (bloomFilter != null && !bloomFilter.mightContain(licensePlate)) {
+            return false;
+        }
+        return licensePlates.contains(licensePlate);
+    }
+
+    public int size() {
+        return licensePlates.size();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.parking.exception.InvalidTariffException;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+/**
+ * A tariff compiled into arrays indexed by {@link VehicleType}, so a bill is computed from
+ * primitives only and never allocates. Plans are immutable: a tariff change compiles a new plan.
+ */
+public final class RatePlan {
+
+    /**
+     * Version of the plan built from the hardcoded {@link Parking} prices, used until a tariff is
+     * stored.
+     */
+    public static final int DEFAULT_VERSION = 0;
+    private static final long MILLISECONDS_IN_AN_HOUR = 3600000;
+    private static final int HOURS_IN_A_DAY = 24;
+    /**
+     * Billed hours covered by the cost table: every stay under a week.
+     */
+    public static final int TABLE_HOURS = 7 * HOURS_IN_A_DAY;
+    private final int version;
+    private final int[] priceHour;
+    private final int[] priceDay;
+    private final int[] surplus;
+    private final int[] hourLimit;
+    private final int[] cylinderCapacityLimit;
+    private final int[] costTable;
+
+    private RatePlan(int version) {
+        this.version = version;
+        this.priceHour = new int[VehicleType.COUNT];
+        this.priceDay = new int[VehicleType.COUNT];
+        this.surplus = new int[VehicleType.COUNT];
+        this.hourLimit = new int[VehicleType.COUNT];
+        this.cylinderCapacityLimit = new int[VehicleType.COUNT];
+        this.costTable = new int[VehicleType.COUNT * TABLE_HOURS];
+    }
+
+    public static RatePlan from(Parking parking) {
+        RatePlan ratePlan = new RatePlan(DEFAULT_VERSION);
+        ratePlan.put(VehicleType.CAR, parking.getCarRate(), parking.getHourLimit(),
+                parking.getCylinderCapacityLimit());
+        ratePlan.put(VehicleType.MOTORCYCLE, parking.getMotorcycleRate(), parking.getHourLimit(),
+                parking.getCylinderCapacityLimit());
+        return ratePlan;
+    }
+
+    /**
+     * @throws InvalidTariffException if a vehicle class is missing, repeated or unknown
+     */
+    public static RatePlan from(Tariff tariff) {
+        RatePlan ratePlan = new RatePlan(tariff.getVersion());
+        boolean[] priced = new boolean[VehicleType.COUNT];
+        for (TariffRate tariffRate : tariff.getRates()) {
+            int vehicleType = tariffRate.getVehicleType();
+            if (vehicleType < 0 || vehicleType >= VehicleType.COUNT || priced[vehicleType]) {
+                throw new InvalidTariffException();
+            }
+            priced[vehicleType] = true;
+            ratePlan.put(vehicleType, tariffRate.getRate(), tariffRate.getHourLimit(),
+                    tariffRate.getCylinderCapacityLimit());
+        }
+        for (boolean vehicleTypePriced : priced) {
+            if (!vehicleTypePriced) {
+                throw new InvalidTariffException();
+            }
+        }
+        return ratePlan;
+    }
+
+    private void put(int vehicleType, Rate rate, int vehicleHourLimit, int vehicleCylinderCapacityLimit) {
+        priceHour[vehicleType] = rate.getPriceHour();
+        priceDay[vehicleType] = rate.getPriceDay();
+        surplus[vehicleType] = rate.getSurplus();
+        hourLimit[vehicleType] = vehicleHourLimit;
+        cylinderCapacityLimit[vehicleType] = vehicleCylinderCapacityLimit;
+        for (int hours = 0; hours < TABLE_HOURS; hours++) {
+            costTable[vehicleType * TABLE_HOURS + hours] = Math.toIntExact(closedFormCost(hours, vehicleType));
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public long parkingCost(long entryMillis, long exitMillis, int vehicleType, int cylinderCapacity) {
+        long parkingCost = costForHours(parkingHours(entryMillis, exitMillis), vehicleType);
+        if (cylinderCapacity > cylinderCapacityLimit[vehicleType]) {
+            parkingCost += surplus[vehicleType];
+        }
+        return parkingCost;
+    }
+
+    /**
+     * Cost of the given billed hours before any surcharge, read from the precomputed table for
+     * stays under {@link #TABLE_HOURS} hours.
+     */
+    public long costForHours(long parkingHours, int vehicleType) {
+        if (parkingHours >= 0 && parkingHours < TABLE_HOURS) {
+            return costTable[vehicleType * TABLE_HOURS + (int) parkingHours];
+        }
+        return closedFormCost(parkingHours, vehicleType);
+    }
+
+    /**
+     * Cost of the given billed hours before any surcharge, computed from the day and hour prices.
+     */
+    public long closedFormCost(long parkingHours, int vehicleType) {
+        long parkingCost;
+        if (parkingHours < hourLimit[vehicleType]) {
+            parkingCost = parkingHours * priceHour[vehicleType];
+        } else {
+            long days = parkingHours / HOURS_IN_A_DAY;
+            long hours = parkingHours % HOURS_IN_A_DAY;
+            if (hours >= hourLimit[vehicleType]) {
+                parkingCost = (days + 1) * priceDay[vehicleType];
+            } else {
+                parkingCost = (days * priceDay[vehicleType]) + (hours * priceHour[vehicleType]);
+            }
+        }
+        return parkingCost;
+    }
+
+    /**
+     * Started hours between both instants, counting any fraction of an hour as a whole one.
+     */
+    public static long parkingHours(long entryMillis, long exitMillis) {
+        return -Math.floorDiv(entryMillis - exitMillis, MILLISECONDS_IN_AN_HOUR);
+    }
+}
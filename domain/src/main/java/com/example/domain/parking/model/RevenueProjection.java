@@ -0,0 +1,38 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.util.List;
+
+/**
+ * What the parked vehicles would be billed if they all left at the same instant. Charges are kept
+ * in the order of the projected vehicles.
+ */
+public class RevenueProjection {
+
+    private final List<Vehicle> vehicles;
+    private final long[] charges;
+    private final long total;
+
+    public RevenueProjection(List<Vehicle> vehicles, long[] charges, long total) {
+        this.vehicles = vehicles;
+        this.charges = charges;
+        this.total = total;
+    }
+
+    public List<Vehicle> getVehicles() {
+        return vehicles;
+    }
+
+    public int size() {
+        return charges.length;
+    }
+
+    public long getCharge(int index) {
+        return charges[index];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Totals of the stays of one vehicle class that ended in one hour or day counted from the epoch.
+ */
+public class RevenueRollup {
+
+    private static final long MILLISECONDS_IN_AN_HOUR = 3600000L;
+    private final long bucket;
+    private final int vehicleType;
+    private int tickets;
+    private long revenue;
+    private long stayMillis;
+
+    public RevenueRollup(long bucket, int vehicleType) {
+        this(bucket, vehicleType, 0, 0, 0);
+    }
+
+    public RevenueRollup(long bucket, int vehicleType, int tickets, long revenue, long stayMillis) {
+        this.bucket = bucket;
+        this.vehicleType = vehicleType;
+        this.tickets = tickets;
+        this.revenue = revenue;
+        this.stayMillis = stayMillis;
+    }
+
+    /**
+     * Hour of exit counted from the epoch.
+     */
+    public static long exitHourOf(long exitMillis) {
+        return Math.floorDiv(exitMillis, MILLISECONDS_IN_AN_HOUR);
+    }
+
+    public static List<RevenueRollup> hourly(Collection<Ticket> tickets) {
+        return rollUp(tickets, ticket -> exitHourOf(ticket.getExitMillis()));
+    }
+
+    public static List<RevenueRollup> daily(Collection<Ticket> tickets) {
+        return rollUp(tickets, Ticket::getExitDay);
+    }
+
+    private static List<RevenueRollup> rollUp(Collection<Ticket> tickets, ToLongFunction<Ticket> bucketOf) {
+        Map<Long, RevenueRollup> rollups = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            long bucket = bucketOf.applyAsLong(ticket);
+            rollups.computeIfAbsent(bucket * VehicleType.COUNT + ticket.getVehicleType(),
+                    key -> new RevenueRollup(bucket, ticket.getVehicleType())).add(ticket);
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    public void add(Ticket ticket) {
+        tickets++;
+        revenue += ticket.getCost();
+        stayMillis += ticket.getExitMillis() - ticket.getEntryMillis();
+    }
+
+    public void add(RevenueRollup rollup) {
+        tickets += rollup.tickets;
+        revenue += rollup.revenue;
+        stayMillis += rollup.stayMillis;
+    }
+
+    public long getBucket() {
+        return bucket;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getTickets() {
+        return tickets;
+    }
+
+    public long getRevenue() {
+        return revenue;
+    }
+
+    public long getStayMillis() {
+        return stayMillis;
+    }
+
+    /**
+     * Zero if no vehicle left in the bucket.
+     */
+    public long getAverageStayMillis() {
+        return tickets == 0 ? 0 : stayMillis / tickets;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds the rollups in a single pass over tickets given in order of exit.
+ */
+public class RevenueRollupBuilder {
+
+    private final Consumer<RevenueRollup> hourlySink;
+    private final Consumer<RevenueRollup> dailySink;
+    private final RevenueRollup[] hourlyRollups = new RevenueRollup[VehicleType.COUNT];
+    private final RevenueRollup[] dailyRollups = new RevenueRollup[VehicleType.COUNT];
+    private long hour = Long.MIN_VALUE;
+    private long day = Long.MIN_VALUE;
+
+    public RevenueRollupBuilder(Consumer<RevenueRollup> hourlySink, Consumer<RevenueRollup> dailySink) {
+        this.hourlySink = hourlySink;
+        this.dailySink = dailySink;
+    }
+
+    public void add(Ticket ticket) {
+        long ticketHour = RevenueRollup.exitHourOf(ticket.getExitMillis());
+        if (ticketHour != hour) {
+            emit(hourlyRollups, hourlySink);
+            hour = ticketHour;
+        }
+        long ticketDay = ticket.getExitDay();
+        if (ticketDay != day) {
+            emit(dailyRollups, dailySink);
+            day = ticketDay;
+        }
+        int vehicleType = ticket.getVehicleType();
+        if (hourlyRollups[vehicleType] == null) {
+            hourlyRollups[vehicleType] = new RevenueRollup(hour, vehicleType);
+        }
+        hourlyRollups[vehicleType].add(ticket);
+        if (dailyRollups[vehicleType] == null) {
+            dailyRollups[vehicleType] = new RevenueRollup(day, vehicleType);
+        }
+        dailyRollups[vehicleType].add(ticket);
+    }
+
+    /**
+     * Called once after the last ticket.
+     */
+    public void finish() {
+        emit(hourlyRollups, hourlySink);
+        emit(dailyRollups, dailySink);
+    }
+
+    private static void emit(RevenueRollup[] rollups, Consumer<RevenueRollup> sink) {
+        for (int vehicleType = 0; vehicleType < rollups.length; vehicleType++) {
+            if (rollups[vehicleType] != null) {
+                sink.accept(rollups[vehicleType]);
+                rollups[vehicleType] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.domain.parking.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One version of the persisted price list, with a rate for every vehicle class. Versions are
+ * never edited: a price change is stored as a new, higher version.
+ */
+public class Tariff {
+
+    private final int version;
+    private final List<TariffRate> rates;
+
+    public Tariff(int version, List<TariffRate> rates) {
+        this.version = version;
+        this.rates = Collections.unmodifiableList(rates);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<TariffRate> getRates() {
+        return rates;
+    }
+}
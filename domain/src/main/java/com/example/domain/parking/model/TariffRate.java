@@ -0,0 +1,35 @@
+package com.example.domain.parking.model;
+
+/**
+ * Prices and thresholds of one vehicle class within a tariff.
+ */
+public class TariffRate {
+
+    private final int vehicleType;
+    private final Rate rate;
+    private final int hourLimit;
+    private final int cylinderCapacityLimit;
+
+    public TariffRate(int vehicleType, Rate rate, int hourLimit, int cylinderCapacityLimit) {
+        this.vehicleType = vehicleType;
+        this.rate = rate;
+        this.hourLimit = hourLimit;
+        this.cylinderCapacityLimit = cylinderCapacityLimit;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public Rate getRate() {
+        return rate;
+    }
+
+    public int getHourLimit() {
+        return hourLimit;
+    }
+
+    public int getCylinderCapacityLimit() {
+        return cylinderCapacityLimit;
+    }
+}
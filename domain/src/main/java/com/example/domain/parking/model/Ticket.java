@@ -0,0 +1,72 @@
+package com.example.domain.parking.model;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.time.LocalDateTime;
+
+public class Ticket {
+
+    private static final long MILLISECONDS_IN_A_DAY = 86400000L;
+    private final String licensePlate;
+    private final int vehicleType;
+    private final int lotId;
+    private final int bay;
+    private final long entryMillis;
+    private final long exitMillis;
+    private final int cost;
+
+    public Ticket(Vehicle vehicle, LocalDateTime exitDate, int cost) {
+        this(vehicle.getLicensePlate(), vehicle.getType(), vehicle.getLotId(), vehicle.getBay(),
+                vehicle.getEntryMillis(), EpochMillis.of(exitDate), cost);
+    }
+
+    public Ticket(String licensePlate, int vehicleType, int lotId, int bay, long entryMillis, long exitMillis,
+                  int cost) {
+        this.licensePlate = licensePlate;
+        this.vehicleType = vehicleType;
+        this.lotId = lotId;
+        this.bay = bay;
+        this.entryMillis = entryMillis;
+        this.exitMillis = exitMillis;
+        this.cost = cost;
+    }
+
+    /**
+     * Day of exit counted from the epoch.
+     */
+    public static long exitDayOf(long exitMillis) {
+        return Math.floorDiv(exitMillis, MILLISECONDS_IN_A_DAY);
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getLotId() {
+        return lotId;
+    }
+
+    public int getBay() {
+        return bay;
+    }
+
+    public long getEntryMillis() {
+        return entryMillis;
+    }
+
+    public long getExitMillis() {
+        return exitMillis;
+    }
+
+    public long getExitDay() {
+        return exitDayOf(exitMillis);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+}
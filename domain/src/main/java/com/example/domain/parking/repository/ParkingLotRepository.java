@@ -0,0 +1,19 @@
+package com.example.domain.parking.repository;
+
+import com.example.domain.parking.model.Parking;
+
+import java.util.List;
+
+public interface ParkingLotRepository {
+
+    /**
+     * Every defined lot, or an empty list if none has been defined yet.
+     */
+    List<Parking> getLots();
+
+    /**
+     * Stores the given lots, replacing the definition of any lot with the same id.
+     */
+    void saveLots(List<Parking> lots);
+
+}
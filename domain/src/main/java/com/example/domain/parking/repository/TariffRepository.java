@@ -0,0 +1,14 @@
+package com.example.domain.parking.repository;
+
+import com.example.domain.parking.model.Tariff;
+
+public interface TariffRepository {
+
+    /**
+     * The highest stored tariff version, or null if no tariff has been stored yet.
+     */
+    Tariff getCurrentTariff();
+
+    void saveTariff(Tariff tariff);
+
+}
@@ -0,0 +1,34 @@
+package com.example.domain.parking.repository;
+
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Ticket;
+
+import java.util.List;
+
+public interface TicketRepository {
+
+    /**
+     * Removes the vehicles and stores their tickets and rollups in the same write.
+     */
+    void archiveTickets(List<Ticket> tickets);
+
+    /**
+     * Days are counted from the epoch and included.
+     */
+    List<Ticket> getTickets(long fromExitDay, long toExitDay);
+
+    /**
+     * @return how many tickets were dropped
+     */
+    int pruneTickets(long beforeExitDay);
+
+    List<RevenueRollup> getHourlyRollups(long fromExitHour, long toExitHour);
+
+    List<RevenueRollup> getDailyRollups(long fromExitDay, long toExitDay);
+
+    /**
+     * Rollups of days already pruned from the history are kept.
+     */
+    void rebuildRollups();
+
+}
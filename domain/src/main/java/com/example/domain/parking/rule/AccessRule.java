@@ -0,0 +1,74 @@
+package com.example.domain.parking.rule;
+
+import com.example.domain.parking.exception.InvalidAccessRuleException;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * One access restriction, defined as data: plates starting with a prefix and ending in one of
+ * some digits are refused on some days, between two hours. An empty prefix or an empty digit set
+ * matches every plate.
+ */
+public class AccessRule {
+
+    public static final int HOURS_IN_A_DAY = 24;
+    private final String platePrefix;
+    private final Set<Integer> lastDigits;
+    private final Set<DayOfWeek> days;
+    private final int startHour;
+    private final int endHour;
+
+    /**
+     * @param startHour first restricted hour, from 0 to 23
+     * @param endHour   first hour no longer restricted, from 1 to 24
+     * @throws InvalidAccessRuleException if there are no days, the time window is empty or out of
+     *                                    the day, or a digit is not between 0 and 9
+     */
+    public AccessRule(String platePrefix, Set<Integer> lastDigits, Set<DayOfWeek> days,
+                      int startHour, int endHour) {
+        if (days.isEmpty() || startHour < 0 || endHour > HOURS_IN_A_DAY || startHour >= endHour) {
+            throw new InvalidAccessRuleException();
+        }
+        for (int lastDigit : lastDigits) {
+            if (lastDigit < 0 || lastDigit > 9) {
+                throw new InvalidAccessRuleException();
+            }
+        }
+        this.platePrefix = platePrefix == null ? "" : platePrefix;
+        this.lastDigits = Collections.unmodifiableSet(new HashSet<>(lastDigits));
+        this.days = Collections.unmodifiableSet(EnumSet.copyOf(days));
+        this.startHour = startHour;
+        this.endHour = endHour;
+    }
+
+    /**
+     * A rule restricting a plate prefix for whole days, whatever the last digit.
+     */
+    public static AccessRule allDay(String platePrefix, Set<DayOfWeek> days) {
+        return new AccessRule(platePrefix, Collections.emptySet(), days, 0, HOURS_IN_A_DAY);
+    }
+
+    public String getPlatePrefix() {
+        return platePrefix;
+    }
+
+    public Set<Integer> getLastDigits() {
+        return lastDigits;
+    }
+
+    public Set<DayOfWeek> getDays() {
+        return days;
+    }
+
+    public int getStartHour() {
+        return startHour;
+    }
+
+    public int getEndHour() {
+        return endHour;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.domain.parking.rule;
+
+import com.example.domain.parking.model.Parking;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Access rules compiled into a bitset decision table indexed by day of week, hour and plate class,
+ * so checking a plate costs the same however many rules are loaded. Tables are immutable: a rule
+ * change compiles a new table.
+ *
+ * <p>A plate class combines the longest rule prefix the plate starts with and the last digit of
+ * the plate. Every rule whose prefix is a prefix of that longest one applies to the class, so
+ * overlapping prefixes such as "A" and "AB" compose as expected.</p>
+ */
+public final class RestrictionTable {
+
+    private static final int DAYS_IN_A_WEEK = 7;
+    private static final int HOURS_IN_A_DAY = AccessRule.HOURS_IN_A_DAY;
+    /**
+     * Digits 0 to 9, plus one class for plates without any digit.
+     */
+    private static final int DIGIT_CLASSES = 11;
+    private static final int NO_DIGIT = 10;
+    private static final int NO_PREFIX = 0;
+    private final Map<String, Integer> prefixClasses;
+    private final int[] prefixLengths;
+    private final int plateClasses;
+    private final long[] restrictedByHour;
+    private final long[] restrictedByDay;
+
+    private RestrictionTable(Map<String, Integer> prefixClasses, int[] prefixLengths) {
+        this.prefixClasses = prefixClasses;
+        this.prefixLengths = prefixLengths;
+        this.plateClasses = (prefixClasses.size() + 1) * DIGIT_CLASSES;
+        this.restrictedByHour = new long[words(DAYS_IN_A_WEEK * HOURS_IN_A_DAY * plateClasses)];
+        this.restrictedByDay = new long[words(DAYS_IN_A_WEEK * plateClasses)];
+    }
+
+    /**
+     * The single built-in rule: plates starting with the restricted letter on Sundays and Mondays.
+     */
+    public static RestrictionTable from(Parking parking) {
+        return compile(Collections.singletonList(AccessRule.allDay(parking.getFirstLetterLicensePlate(),
+                EnumSet.of(DayOfWeek.of(parking.getSunday()), DayOfWeek.of(parking.getMonday())))));
+    }
+
+    public static RestrictionTable compile(List<AccessRule> accessRules) {
+        TreeSet<String> prefixes = new TreeSet<>();
+        TreeSet<Integer> lengths = new TreeSet<>(Collections.reverseOrder());
+        for (AccessRule accessRule : accessRules) {
+            if (!accessRule.getPlatePrefix().isEmpty()) {
+                prefixes.add(accessRule.getPlatePrefix());
+                lengths.add(accessRule.getPlatePrefix().length());
+            }
+        }
+        Map<String, Integer> prefixClasses = new HashMap<>();
+        List<String> prefixByClass = new ArrayList<>();
+        prefixByClass.add("");
+        for (String prefix : prefixes) {
+            prefixClasses.put(prefix, prefixByClass.size());
+            prefixByClass.add(prefix);
+        }
+        int[] prefixLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+        RestrictionTable restrictionTable = new RestrictionTable(prefixClasses, prefixLengths);
+        for (AccessRule accessRule : accessRules) {
+            for (int prefixClass = 0; prefixClass < prefixByClass.size(); prefixClass++) {
+                if (prefixByClass.get(prefixClass).startsWith(accessRule.getPlatePrefix())) {
+                    restrictionTable.add(accessRule, prefixClass);
+                }
+            }
+        }
+        return restrictionTable;
+    }
+
+    private void add(AccessRule accessRule, int prefixClass) {
+        for (int digitClass = 0; digitClass < DIGIT_CLASSES; digitClass++) {
+            boolean digitMatches = accessRule.getLastDigits().isEmpty()
+                    || accessRule.getLastDigits().contains(digitClass);
+            if (!digitMatches) {
+                continue;
+            }
+            int plateClass = prefixClass * DIGIT_CLASSES + digitClass;
+            for (DayOfWeek day : accessRule.getDays()) {
+                int dayIndex = day.getValue() - 1;
+                set(restrictedByDay, dayIndex * plateClasses + plateClass);
+                for (int hour = accessRule.getStartHour(); hour < accessRule.getEndHour(); hour++) {
+                    set(restrictedByHour, (dayIndex * HOURS_IN_A_DAY + hour) * plateClasses + plateClass);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param dayOfWeek from 1 (Monday) to 7 (Sunday)
+     * @param hour      from 0 to 23
+     */
+    public boolean isRestricted(String licensePlate, int dayOfWeek, int hour) {
+        int index = ((dayOfWeek - 1) * HOURS_IN_A_DAY + hour) * plateClasses + plateClass(licensePlate);
+        return get(restrictedByHour, index);
+    }
+
+    /**
+     * Whether the plate is restricted at any hour of the given day.
+     *
+     * @param dayOfWeek from 1 (Monday) to 7 (Sunday)
+     */
+    public boolean isRestricted(String licensePlate, int dayOfWeek) {
+        return get(restrictedByDay, (dayOfWeek - 1) * plateClasses + plateClass(licensePlate));
+    }
+
+    private int plateClass(String licensePlate) {
+        int prefixClass = NO_PREFIX;
+        for (int prefixLength : prefixLengths) {
+            if (licensePlate.length() >= prefixLength) {
+                Integer matchedClass = prefixClasses.get(licensePlate.substring(0, prefixLength));
+                if (matchedClass != null) {
+                    prefixClass = matchedClass;
+                    break;
+                }
+            }
+        }
+        return prefixClass * DIGIT_CLASSES + lastDigit(licensePlate);
+    }
+
+    private static int lastDigit(String licensePlate) {
+        for (int i = licensePlate.length() - 1; i >= 0; i--) {
+            char character = licensePlate.charAt(i);
+            if (character >= '0' && character <= '9') {
+                return character - '0';
+            }
+        }
+        return NO_DIGIT;
+    }
+
+    private static int words(int bits) {
+        return (bits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static void set(long[] bitset, int index) {
+        bitset[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean get(long[] bitset, int index) {
+        return (bitset[index >>> 6] & (1L << index)) != 0;
+    }
+}
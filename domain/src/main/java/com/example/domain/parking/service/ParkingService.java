@@ -1,117 +1,662 @@
 package com.example.domain.parking.service;
 
+import com.example.domain.parking.exception.BlacklistedVehicleException;
 import com.example.domain.parking.exception.ParkingLimitException;
+import com.example.domain.parking.exception.ParkingLotNotFoundException;
 import com.example.domain.parking.exception.RestrictedAccessByDayException;
+import com.example.domain.parking.exception.VehicleAlreadyParkedException;
+import com.example.domain.parking.exception.VehicleNotParkedException;
+import com.example.domain.parking.model.BayAllocator;
+import com.example.domain.parking.model.CurrentHourRollups;
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.model.LotOccupancy;
+import com.example.domain.parking.model.Occupancy;
+import com.example.domain.parking.model.ParkedPlates;
 import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.model.PlateList;
 import com.example.domain.vehicle.car.model.Car;
 import com.example.domain.vehicle.motorcycle.model.Motorcycle;
-import com.example.domain.parking.model.Rate;
+import com.example.domain.parking.model.RatePlan;
+import com.example.domain.parking.model.RevenueProjection;
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Tariff;
+import com.example.domain.parking.model.TariffRate;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.rule.AccessRule;
+import com.example.domain.parking.rule.RestrictionTable;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
 import com.example.domain.vehicle.car.repository.CarRepository;
 import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-
-import javax.inject.Inject;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 public class ParkingService {
 
     private final CarRepository carRepository;
     private final MotorcycleRepository motorcycleRepository;
-    private static final float MILLISECONDS_IN_AN_HOUR = 3600000;
-    private static final int HOURS_IN_A_DAY = 24;
+    private final VehicleRepository vehicleRepository;
+    private final TariffRepository tariffRepository;
+    private final ParkingLotRepository parkingLotRepository;
+    private final TicketRepository ticketRepository;
+    static final int PARALLEL_PROJECTION_THRESHOLD = 2048;
     private final Parking parking;
+    private volatile RatePlan ratePlan;
+    private volatile Map<Integer, LotOccupancy> lots;
+    private final ParkedPlates parkedPlates;
+    private final CurrentHourRollups currentHourRollups;
+    private volatile RestrictionTable restrictionTable;
+    private volatile PlateList blacklist = PlateList.EMPTY;
+    private volatile PlateList permits = PlateList.EMPTY;
 
-    @Inject
-    public ParkingService(CarRepository carRepository, MotorcycleRepository motorcycleRepository) {
+    public ParkingService(CarRepository carRepository, MotorcycleRepository motorcycleRepository,
+                          VehicleRepository vehicleRepository, TariffRepository tariffRepository,
+                          ParkingLotRepository parkingLotRepository, TicketRepository ticketRepository) {
         this.carRepository = carRepository;
         this.motorcycleRepository = motorcycleRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.tariffRepository = tariffRepository;
+        this.parkingLotRepository = parkingLotRepository;
+        this.ticketRepository = ticketRepository;
         this.parking = new Parking();
+        this.parkedPlates = new ParkedPlates(vehicleRepository::getLicensePlates);
+        this.currentHourRollups = new CurrentHourRollups(hour -> ticketRepository.getHourlyRollups(hour, hour));
+        this.restrictionTable = RestrictionTable.from(parking);
     }
 
     public void saveCar(Car car, int currentDay) {
-        int numberOfCars = carRepository.getNumberOfCars();
-        if (numberOfCars == parking.getMaxNumberOfCars()) {
+        Occupancy carOccupancy = getOccupancy(car);
+        if (!carOccupancy.reserveSpace()) {
             throw new ParkingLimitException();
-        } else if (validateLicensePlate(car.getLicensePlate(), currentDay)) {
-            throw new RestrictedAccessByDayException();
-        } else {
+        }
+        boolean admitted = false;
+        boolean saved = false;
+        try {
+            admit(car.getLicensePlate(), currentDay, car.getEntryDate().getHour());
+            admitted = true;
+            takeBay(car);
             carRepository.saveCar(car);
+            saved = true;
+        } finally {
+            if (admitted && !saved) {
+                freeBay(car);
+                parkedPlates.remove(car.getLicensePlate());
+            }
+            completeReservation(carOccupancy, saved);
         }
     }
 
     public void saveMotorcycle(Motorcycle motorcycle, int currentDay) {
-        int numberOfMotorcycles = motorcycleRepository.getNumberOfMotorcycles();
-        if (numberOfMotorcycles == parking.getMaxNumberOfMotorcycles()) {
+        Occupancy motorcycleOccupancy = getOccupancy(motorcycle);
+        if (!motorcycleOccupancy.reserveSpace()) {
+            throw new ParkingLimitException();
+        }
+        boolean admitted = false;
+        boolean saved = false;
+        try {
+            admit(motorcycle.getLicensePlate(), currentDay, motorcycle.getEntryDate().getHour());
+            admitted = true;
+            takeBay(motorcycle);
+            motorcycleRepository.saveMotorcycle(motorcycle);
+            saved = true;
+        } finally {
+            if (admitted && !saved) {
+                freeBay(motorcycle);
+                parkedPlates.remove(motorcycle.getLicensePlate());
+            }
+            completeReservation(motorcycleOccupancy, saved);
+        }
+    }
+
+    /**
+     * Checks in a whole convoy at once. The batch is rejected as a whole if any plate is restricted,
+     * blacklisted or already parked, or if there is not enough room for every vehicle of a class in
+     * its lot. The whole batch, cars and motorcycles alike, is stored in a single transaction.
+     */
+    public void saveVehicles(List<Vehicle> vehicles) {
+        Map<Occupancy, Integer> carSpaces = new IdentityHashMap<>();
+        Map<Occupancy, Integer> motorcycleSpaces = new IdentityHashMap<>();
+        for (Vehicle vehicle : vehicles) {
+            LocalDateTime entryDate = vehicle.getEntryDate();
+            checkAccess(vehicle.getLicensePlate(), entryDate.getDayOfWeek().getValue(), entryDate.getHour());
+            if (vehicle instanceof Car) {
+                carSpaces.merge(getOccupancy(vehicle), 1, Integer::sum);
+            } else if (vehicle instanceof Motorcycle) {
+                motorcycleSpaces.merge(getOccupancy(vehicle), 1, Integer::sum);
+            }
+        }
+        List<String> claimedPlates = new ArrayList<>(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            if (!parkedPlates.add(vehicle.getLicensePlate())) {
+                claimedPlates.forEach(parkedPlates::remove);
+                throw new VehicleAlreadyParkedException();
+            }
+            claimedPlates.add(vehicle.getLicensePlate());
+        }
+        if (!reserveSpaces(carSpaces)) {
+            claimedPlates.forEach(parkedPlates::remove);
+            throw new ParkingLimitException();
+        }
+        if (!reserveSpaces(motorcycleSpaces)) {
+            completeReservations(carSpaces, false);
+            claimedPlates.forEach(parkedPlates::remove);
             throw new ParkingLimitException();
-        } else if (validateLicensePlate(motorcycle.getLicensePlate(), currentDay)) {
+        }
+        vehicles.forEach(this::takeBay);
+        boolean saved = false;
+        try {
+            vehicleRepository.saveVehicles(vehicles);
+            saved = true;
+        } finally {
+            if (!saved) {
+                vehicles.forEach(vehicle -> {
+                    freeBay(vehicle);
+                    parkedPlates.remove(vehicle.getLicensePlate());
+                });
+            }
+            completeReservations(carSpaces, saved);
+            completeReservations(motorcycleSpaces, saved);
+        }
+    }
+
+    /**
+     * Reserves the spaces of several lots, all or nothing.
+     */
+    private static boolean reserveSpaces(Map<Occupancy, Integer> spaces) {
+        List<Occupancy> reserved = new ArrayList<>(spaces.size());
+        for (Map.Entry<Occupancy, Integer> lotSpaces : spaces.entrySet()) {
+            if (!lotSpaces.getKey().reserveSpaces(lotSpaces.getValue())) {
+                reserved.forEach(occupancy -> occupancy.releaseSpaces(spaces.get(occupancy)));
+                return false;
+            }
+            reserved.add(lotSpaces.getKey());
+        }
+        return true;
+    }
+
+    private void completeReservations(Map<Occupancy, Integer> spaces, boolean saved) {
+        spaces.forEach((occupancy, lotSpaces) -> completeReservation(occupancy, lotSpaces, saved));
+    }
+
+    /**
+     * Runs every admission check from memory and claims the plate.
+     */
+    private void admit(String licensePlate, int currentDay, int currentHour) {
+        checkAccess(licensePlate, currentDay, currentHour);
+        if (!parkedPlates.add(licensePlate)) {
+            throw new VehicleAlreadyParkedException();
+        }
+    }
+
+    private void checkAccess(String licensePlate, int currentDay, int currentHour) {
+        if (validateLicensePlate(licensePlate, currentDay, currentHour)) {
             throw new RestrictedAccessByDayException();
+        }
+        if (blacklist.contains(licensePlate)) {
+            throw new BlacklistedVehicleException();
+        }
+    }
+
+    /**
+     * Gives the vehicle the lowest-numbered free bay of its class in its lot. Called once a space
+     * has been reserved there.
+     */
+    private void takeBay(Vehicle vehicle) {
+        vehicle.assignBay(getBays(vehicle).takeLowestBay());
+    }
+
+    private void freeBay(Vehicle vehicle) {
+        getBays(vehicle).freeBay(vehicle.getBay());
+        vehicle.assignBay(Vehicle.NO_BAY);
+    }
+
+    private void completeReservation(Occupancy occupancy, boolean saved) {
+        completeReservation(occupancy, 1, saved);
+    }
+
+    private void completeReservation(Occupancy occupancy, int spaces, boolean saved) {
+        if (saved) {
+            occupancy.commitSpaces(spaces);
         } else {
-            motorcycleRepository.saveMotorcycle(motorcycle);
+            occupancy.releaseSpaces(spaces);
         }
     }
 
+    /**
+     * Whether the plate is restricted at any hour of the given day. Plates on the permit list are
+     * never restricted.
+     */
     public boolean validateLicensePlate(String licensePlate, int currentDay) {
-        return (licensePlate.startsWith(parking.getFirstLetterLicensePlate())
-                && (currentDay == parking.getSunday() || currentDay == parking.getMonday()));
+        return restrictionTable.isRestricted(licensePlate, currentDay)
+                && !permits.contains(licensePlate);
+    }
+
+    /**
+     * Whether the plate is restricted at the given day and hour. Plates on the permit list are
+     * never restricted.
+     */
+    public boolean validateLicensePlate(String licensePlate, int currentDay, int currentHour) {
+        return restrictionTable.isRestricted(licensePlate, currentDay, currentHour)
+                && !permits.contains(licensePlate);
+    }
+
+    /**
+     * Replaces every access restriction, including the built-in one, with the given rules.
+     */
+    public void updateAccessRules(List<AccessRule> accessRules) {
+        restrictionTable = RestrictionTable.compile(accessRules);
+    }
+
+    public boolean isParked(String licensePlate) {
+        return parkedPlates.contains(licensePlate);
+    }
+
+    /**
+     * Replaces the plates that are refused on entry.
+     */
+    public void updateBlacklist(Collection<String> licensePlates) {
+        blacklist = new PlateList(licensePlates);
+    }
+
+    /**
+     * Replaces the plates that are exempt from the day restriction.
+     */
+    public void updatePermits(Collection<String> licensePlates) {
+        permits = new PlateList(licensePlates);
     }
 
+    /**
+     * Claims the plate first, like a check-out, so a repeated delete frees nothing twice.
+     */
     public void deleteCar(Car car) {
-        carRepository.deleteCar(car);
+        if (!parkedPlates.remove(car.getLicensePlate())) {
+            return;
+        }
+        try {
+            carRepository.deleteCar(car);
+        } catch (RuntimeException e) {
+            parkedPlates.add(car.getLicensePlate());
+            throw e;
+        }
+        getBays(car).freeBay(car.getBay());
+        getOccupancy(car).freeSpace();
     }
 
     public void deleteMotorcycle(Motorcycle motorcycle) {
-        motorcycleRepository.deleteMotorcycle(motorcycle);
+        if (!parkedPlates.remove(motorcycle.getLicensePlate())) {
+            return;
+        }
+        try {
+            motorcycleRepository.deleteMotorcycle(motorcycle);
+        } catch (RuntimeException e) {
+            parkedPlates.add(motorcycle.getLicensePlate());
+            throw e;
+        }
+        getBays(motorcycle).freeBay(motorcycle.getBay());
+        getOccupancy(motorcycle).freeSpace();
+    }
+
+    /**
+     * Bills and checks out a batch of vehicles. Every vehicle leaves the parked ones and its ticket
+     * joins the history in a single write, so no completed stay is lost.
+     *
+     * <p>Each vehicle first claims its plate. A vehicle that is no longer parked, such as one whose
+     * check-out was submitted twice, loses the claim and is skipped: it is neither billed nor
+     * archived, and its space and bay are not freed again.</p>
+     *
+     * @return the ticket of every vehicle checked out, with its plate and bill; skipped vehicles
+     * have none
+     */
+    public List<Ticket> checkOutVehicles(List<Vehicle> vehicles, LocalDateTime exitDate) {
+        List<Vehicle> parkedVehicles = new ArrayList<>(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            if (parkedPlates.remove(vehicle.getLicensePlate())) {
+                parkedVehicles.add(vehicle);
+            }
+        }
+        List<Ticket> tickets = new ArrayList<>(parkedVehicles.size());
+        if (parkedVehicles.isEmpty()) {
+            return tickets;
+        }
+        long rollupEpoch;
+        try {
+            for (Vehicle vehicle : parkedVehicles) {
+                tickets.add(new Ticket(vehicle, exitDate, vehicle.calculateParkingCost(this, exitDate)));
+            }
+            rollupEpoch = currentHourRollups.track(RevenueRollup.exitHourOf(EpochMillis.of(exitDate)));
+            ticketRepository.archiveTickets(tickets);
+        } catch (RuntimeException e) {
+            parkedVehicles.forEach(vehicle -> parkedPlates.add(vehicle.getLicensePlate()));
+            throw e;
+        }
+        currentHourRollups.add(tickets, rollupEpoch);
+        parkedVehicles.forEach(vehicle -> {
+            getBays(vehicle).freeBay(vehicle.getBay());
+            getOccupancy(vehicle).freeSpace();
+        });
+        return tickets;
+    }
+
+    /**
+     * Bills and checks out one vehicle.
+     *
+     * @throws VehicleNotParkedException if the vehicle has already left
+     */
+    public int checkOutVehicle(Vehicle vehicle, LocalDateTime exitDate) {
+        List<Ticket> tickets = checkOutVehicles(Collections.singletonList(vehicle), exitDate);
+        if (tickets.isEmpty()) {
+            throw new VehicleNotParkedException();
+        }
+        return tickets.get(0).getCost();
+    }
+
+    /**
+     * Completed stays of the vehicles that left between both dates, included, ordered by exit.
+     */
+    public List<Ticket> getTickets(LocalDate fromExitDate, LocalDate toExitDate) {
+        return ticketRepository.getTickets(fromExitDate.toEpochDay(), toExitDate.toEpochDay());
+    }
+
+    /**
+     * Drops the completed stays of the vehicles that left before the given date.
+     *
+     * @return how many tickets were dropped
+     */
+    public int pruneTickets(LocalDate oldestExitDate) {
+        return ticketRepository.pruneTickets(oldestExitDate.toEpochDay());
+    }
+
+    /**
+     * Revenue, tickets and stay of every vehicle class for each hour between both dates, included.
+     * Hours with no check-out have no rollup.
+     */
+    public List<RevenueRollup> getHourlyRollups(LocalDateTime fromExitDate, LocalDateTime toExitDate) {
+        return ticketRepository.getHourlyRollups(RevenueRollup.exitHourOf(EpochMillis.of(fromExitDate)),
+                RevenueRollup.exitHourOf(EpochMillis.of(toExitDate)));
+    }
+
+    /**
+     * Revenue, tickets and stay of every vehicle class for each day between both dates, included.
+     * Days with no check-out have no rollup.
+     */
+    public List<RevenueRollup> getDailyRollups(LocalDate fromExitDate, LocalDate toExitDate) {
+        return ticketRepository.getDailyRollups(fromExitDate.toEpochDay(), toExitDate.toEpochDay());
+    }
+
+    /**
+     * Rollups of every vehicle class for the hour in progress, served from memory.
+     */
+    public List<RevenueRollup> getCurrentHourRollups(LocalDateTime now) {
+        return currentHourRollups.get(RevenueRollup.exitHourOf(EpochMillis.of(now)));
+    }
+
+    /**
+     * Recomputes the rollups from the ticket history, for when they are suspected to have drifted.
+     */
+    public void rebuildRollups() {
+        ticketRepository.rebuildRollups();
+        currentHourRollups.invalidate();
     }
 
     public List<Vehicle> getVehicles() {
-        List<Vehicle> vehicleList = new ArrayList<>();
-        vehicleList.addAll(carRepository.getCars());
-        vehicleList.addAll(motorcycleRepository.getMotorcycles());
-        return vehicleList;
+        return vehicleRepository.getVehicles();
+    }
+
+    /**
+     * One page of the parked vehicles, ordered by entry date.
+     */
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        return vehicleRepository.getVehicles(offset, limit);
+    }
+
+    /**
+     * Vehicles parked in one lot, ordered by entry date.
+     */
+    public List<Vehicle> getVehiclesInLot(int lotId) {
+        return vehicleRepository.getVehiclesInLot(lotId);
+    }
+
+    public void addVehicleObserver(VehicleObserver vehicleObserver) {
+        vehicleRepository.addVehicleObserver(vehicleObserver);
+    }
+
+    public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        vehicleRepository.removeVehicleObserver(vehicleObserver);
+    }
+
+    /**
+     * Spaces of every class across every lot.
+     */
+    public int getTotalCapacity() {
+        int totalCapacity = 0;
+        for (LotOccupancy lotOccupancy : getLotOccupancies().values()) {
+            totalCapacity += lotOccupancy.getLot().getTotalCapacity();
+        }
+        return totalCapacity;
+    }
+
+    /**
+     * Free spaces of one class in one lot, counting the ones reserved by check-ins in progress as
+     * taken.
+     *
+     * @throws ParkingLotNotFoundException if the lot is not defined
+     */
+    public int getFreeSpaces(int lotId, int vehicleType) {
+        Occupancy occupancy = getLotOccupancy(lotId).getOccupancy(vehicleType);
+        return occupancy.getCapacity() - occupancy.getOccupiedSpaces();
+    }
+
+    /**
+     * Whether the bay of one class in one lot is free.
+     *
+     * @throws ParkingLotNotFoundException if the lot is not defined
+     */
+    public boolean isBayFree(int lotId, int vehicleType, int bay) {
+        return getLotOccupancy(lotId).getBays(vehicleType).isFree(bay);
+    }
+
+    /**
+     * Loads the lots and rebuilds their bays from the parked vehicles, so the first check-in does
+     * not pay for it. Meant to be called off the main thread at application start.
+     */
+    public void warmUp() {
+        getLotOccupancies();
+    }
+
+    public List<Parking> getLots() {
+        List<Parking> lotList = new ArrayList<>();
+        getLotOccupancies().values().forEach(lotOccupancy -> lotList.add(lotOccupancy.getLot()));
+        return lotList;
+    }
+
+    /**
+     * Stores the given lot definitions and starts admitting with them right away. Lots not in the
+     * list keep their definition and their counters; a redefined lot gets new counters, seeded
+     * from the repository on first use. Every lot is persisted, so the built-in lot survives a
+     * restart once any lot has been defined.
+     */
+    public synchronized void saveLots(List<Parking> lotList) {
+        Map<Integer, LotOccupancy> updatedLots = new HashMap<>(getLotOccupancies());
+        lotList.forEach(lot -> {
+            LotOccupancy lotOccupancy = createLotOccupancy(lot);
+            occupyBays(Collections.singletonMap(lot.getLotId(), lotOccupancy),
+                    vehicleRepository.getVehiclesInLot(lot.getLotId()));
+            updatedLots.put(lot.getLotId(), lotOccupancy);
+        });
+        List<Parking> updatedLotList = new ArrayList<>(updatedLots.size());
+        updatedLots.values().forEach(lotOccupancy -> updatedLotList.add(lotOccupancy.getLot()));
+        updatedLotList.sort(Comparator.comparingInt(Parking::getLotId));
+        parkingLotRepository.saveLots(updatedLotList);
+        lots = Collections.unmodifiableMap(updatedLots);
+    }
+
+    private Occupancy getOccupancy(Vehicle vehicle) {
+        return getLotOccupancy(vehicle.getLotId()).getOccupancy(vehicle.getType());
+    }
+
+    private BayAllocator getBays(Vehicle vehicle) {
+        return getLotOccupancy(vehicle.getLotId()).getBays(vehicle.getType());
+    }
+
+    private LotOccupancy getLotOccupancy(int lotId) {
+        LotOccupancy lotOccupancy = getLotOccupancies().get(lotId);
+        if (lotOccupancy == null) {
+            throw new ParkingLotNotFoundException();
+        }
+        return lotOccupancy;
+    }
+
+    /**
+     * Occupancy of every lot, keyed by lot id. The lots are loaded from the repository on first
+     * use, falling back to the built-in lot if none is defined, and their bays are rebuilt in one
+     * pass over the parked vehicles. The map is only replaced by {@link #saveLots(List)}, so
+     * admission reads it without locking.
+     */
+    private Map<Integer, LotOccupancy> getLotOccupancies() {
+        Map<Integer, LotOccupancy> currentLots = lots;
+        if (currentLots == null) {
+            currentLots = loadLots();
+        }
+        return currentLots;
+    }
+
+    private synchronized Map<Integer, LotOccupancy> loadLots() {
+        if (lots == null) {
+            List<Parking> lotList = parkingLotRepository.getLots();
+            if (lotList == null || lotList.isEmpty()) {
+                lotList = Collections.singletonList(parking);
+            }
+            Map<Integer, LotOccupancy> loadedLots = new HashMap<>();
+            lotList.forEach(lot -> loadedLots.put(lot.getLotId(), createLotOccupancy(lot)));
+            occupyBays(loadedLots, vehicleRepository.getVehicles());
+            lots = Collections.unmodifiableMap(loadedLots);
+        }
+        return lots;
+    }
+
+    private static void occupyBays(Map<Integer, LotOccupancy> lotOccupancies, List<Vehicle> vehicles) {
+        for (Vehicle vehicle : vehicles) {
+            LotOccupancy lotOccupancy = lotOccupancies.get(vehicle.getLotId());
+            if (lotOccupancy != null) {
+                lotOccupancy.getBays(vehicle.getType()).occupyBay(vehicle.getBay());
+            }
+        }
+    }
+
+    private LotOccupancy createLotOccupancy(Parking lot) {
+        int lotId = lot.getLotId();
+        return new LotOccupancy(lot, vehicleType -> vehicleType == VehicleType.CAR
+                ? () -> carRepository.getNumberOfCars(lotId)
+                : () -> motorcycleRepository.getNumberOfMotorcycles(lotId));
+    }
+
+    /**
+     * Bills every parked vehicle as if it left at the given date, without checking anything out.
+     */
+    public RevenueProjection projectRevenue(LocalDateTime exitDate) {
+        return projectRevenue(vehicleRepository.getVehicles(), exitDate);
+    }
+
+    /**
+     * Bills the given vehicles as if they left at the given date, without checking anything out.
+     * Lots above {@link #PARALLEL_PROJECTION_THRESHOLD} vehicles are billed on the common
+     * fork-join pool.
+     */
+    public RevenueProjection projectRevenue(List<Vehicle> vehicles, LocalDateTime exitDate) {
+        int size = vehicles.size();
+        long exitMillis = EpochMillis.of(exitDate);
+        long[] entryMillis = new long[size];
+        int[] vehicleTypes = new int[size];
+        int[] cylinderCapacities = new int[size];
+        for (int i = 0; i < size; i++) {
+            Vehicle vehicle = vehicles.get(i);
+            entryMillis[i] = vehicle.getEntryMillis();
+            vehicleTypes[i] = vehicle.getType();
+            cylinderCapacities[i] = vehicle.getCylinderCapacity();
+        }
+        RatePlan currentRatePlan = getRatePlan();
+        long[] charges = new long[size];
+        IntStream indexes = IntStream.range(0, size);
+        if (size > PARALLEL_PROJECTION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        long total = indexes.mapToLong(i -> charges[i] = currentRatePlan.parkingCost(entryMillis[i],
+                exitMillis, vehicleTypes[i], cylinderCapacities[i])).sum();
+        return new RevenueProjection(vehicles, charges, total);
     }
 
     public int carParkingCost(Car car, LocalDateTime exitDate) {
-        Rate carRate = parking.getCarRate();
-        return calculateParkingCost(car, exitDate, carRate);
+        return (int) calculateParkingCost(car.getEntryMillis(), EpochMillis.of(exitDate),
+                VehicleType.CAR, 0);
     }
 
     public int motorcycleParkingCost(Motorcycle motorcycle, LocalDateTime exitDate) {
-        Rate motorcycleRate = parking.getMotorcycleRate();
-        int parkingCost = calculateParkingCost(motorcycle, exitDate, motorcycleRate);
-        if (motorcycle.getCylinderCapacity() > parking.getCylinderCapacityLimit()) {
-            parkingCost += motorcycleRate.getSurplus();
-        }
-        return parkingCost;
-    }
-
-    public int calculateParkingCost(Vehicle vehicle, LocalDateTime exitDate, Rate vehicleRate) {
-        int hourLimit = parking.getHourLimit();
-        int priceHour = vehicleRate.getPriceHour();
-        int priceDay = vehicleRate.getPriceDay();
-        int parkingCost;
-        int parkingTime = getParkingTime(vehicle.getEntryDate(), exitDate);
-        if (parkingTime < hourLimit) {
-            parkingCost = parkingTime * priceHour;
-        } else {
-            int days = parkingTime / HOURS_IN_A_DAY;
-            int hours = parkingTime % HOURS_IN_A_DAY;
-            if (hours >= hourLimit) {
-                days += 1;
-                parkingCost = days * priceDay;
-            } else {
-                parkingCost = (days * priceDay) + (hours * priceHour);
-            }
+        return (int) calculateParkingCost(motorcycle.getEntryMillis(), EpochMillis.of(exitDate),
+                VehicleType.MOTORCYCLE, motorcycle.getCylinderCapacity());
+    }
+
+    /**
+     * Bills a stay from primitives only. This is the allocation-free kernel behind every
+     * vehicle-based billing method.
+     *
+     * @param vehicleType one of the {@link VehicleType} constants
+     */
+    public long calculateParkingCost(long entryMillis, long exitMillis, int vehicleType, int cylinderCapacity) {
+        return getRatePlan().parkingCost(entryMillis, exitMillis, vehicleType, cylinderCapacity);
+    }
+
+    /**
+     * The compiled plan of the current tariff. It is loaded from the repository on first use and
+     * then only replaced by {@link #updateTariff(List)}, so billing never waits on a lock.
+     */
+    public RatePlan getRatePlan() {
+        RatePlan currentRatePlan = ratePlan;
+        if (currentRatePlan == null) {
+            currentRatePlan = loadRatePlan();
+        }
+        return currentRatePlan;
+    }
+
+    private synchronized RatePlan loadRatePlan() {
+        if (ratePlan == null) {
+            Tariff tariff = tariffRepository.getCurrentTariff();
+            ratePlan = tariff == null ? RatePlan.from(parking) : RatePlan.from(tariff);
         }
-        return parkingCost;
+        return ratePlan;
+    }
+
+    /**
+     * Stores the given rates as the next tariff version and starts billing with them right away.
+     *
+     * @return the version of the new tariff
+     * @throws com.example.domain.parking.exception.InvalidTariffException if a vehicle class is
+     *                                                                      missing or repeated
+     */
+    public synchronized int updateTariff(List<TariffRate> rates) {
+        Tariff tariff = new Tariff(getRatePlan().getVersion() + 1, rates);
+        RatePlan updatedRatePlan = RatePlan.from(tariff);
+        tariffRepository.saveTariff(tariff);
+        ratePlan = updatedRatePlan;
+        return tariff.getVersion();
     }
 
     public int getParkingTime(LocalDateTime entryDate, LocalDateTime exitDate) {
-        long timeElapsed = entryDate.until(exitDate, ChronoUnit.MILLIS);
-        return (int) Math.ceil(timeElapsed / MILLISECONDS_IN_AN_HOUR);
+        return (int) RatePlan.parkingHours(EpochMillis.of(entryDate), EpochMillis.of(exitDate));
     }
 
 }
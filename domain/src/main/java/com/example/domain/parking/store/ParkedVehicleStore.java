@@ -0,0 +1,230 @@
+package com.example.domain.parking.store;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Every parked vehicle, loaded once and then updated by the write-through repositories. Reads
+ * never lock; writes are serialized so the indexes move together.
+ */
+public class ParkedVehicleStore {
+
+    private static final Comparator<Vehicle> ENTRY_ORDER = Comparator
+            .comparingLong(Vehicle::getEntryMillis)
+            .thenComparing(Vehicle::getLicensePlate);
+    private final VehicleRepository source;
+    private final ConcurrentHashMap<String, Vehicle> vehiclesByPlate = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Vehicle> vehiclesByEntry = new ConcurrentSkipListSet<>(ENTRY_ORDER);
+    private final ConcurrentHashMap<Integer, AtomicIntegerArray> vehiclesByLot = new ConcurrentHashMap<>();
+    private final Set<VehicleObserver> vehicleObservers = new CopyOnWriteArraySet<>();
+    private final Object notificationLock = new Object();
+    private long version;
+    private long notifiedVersion;
+    private volatile boolean loaded;
+
+    /**
+     * @param source repository the snapshot is loaded from, queried only once
+     */
+    public ParkedVehicleStore(VehicleRepository source) {
+        this.source = source;
+    }
+
+    /**
+     * Loads the snapshot if it is not loaded yet. Must be called off the main thread.
+     */
+    public void warmUp() {
+        load();
+    }
+
+    public boolean isWarm() {
+        return loaded;
+    }
+
+    /**
+     * Parked vehicles ordered by entry date, then license plate.
+     */
+    public List<Vehicle> getVehicles() {
+        load();
+        return new ArrayList<>(vehiclesByEntry);
+    }
+
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        load();
+        List<Vehicle> page = new ArrayList<>(Math.min(limit, vehiclesByEntry.size()));
+        Iterator<Vehicle> iterator = vehiclesByEntry.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    /**
+     * Parked vehicles of one class, ordered by entry date.
+     */
+    public List<Vehicle> getVehicles(int vehicleType) {
+        load();
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (Vehicle vehicle : vehiclesByEntry) {
+            if (vehicle.getType() == vehicleType) {
+                vehicles.add(vehicle);
+            }
+        }
+        return vehicles;
+    }
+
+    /**
+     * Vehicles parked in one lot, ordered by entry date.
+     */
+    public List<Vehicle> getVehiclesInLot(int lotId) {
+        load();
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (Vehicle vehicle : vehiclesByEntry) {
+            if (vehicle.getLotId() == lotId) {
+                vehicles.add(vehicle);
+            }
+        }
+        return vehicles;
+    }
+
+    public List<String> getLicensePlates() {
+        load();
+        return new ArrayList<>(vehiclesByPlate.keySet());
+    }
+
+    /**
+     * Vehicles of one class parked in one lot.
+     */
+    public int getNumberOfVehicles(int lotId, int vehicleType) {
+        load();
+        AtomicIntegerArray lotVehicles = vehiclesByLot.get(lotId);
+        return lotVehicles == null ? 0 : lotVehicles.get(vehicleType);
+    }
+
+    /**
+     * @return the parked vehicle of that class with the plate, or null if there is none
+     */
+    public Vehicle findVehicle(String licensePlate, int vehicleType) {
+        load();
+        Vehicle vehicle = vehiclesByPlate.get(licensePlate);
+        return vehicle != null && vehicle.getType() == vehicleType ? vehicle : null;
+    }
+
+    public void put(Vehicle vehicle) {
+        putAll(Collections.singletonList(vehicle));
+    }
+
+    /**
+     * A vehicle with a plate already in the store replaces the stored one.
+     */
+    public void putAll(Collection<? extends Vehicle> vehicles) {
+        load();
+        synchronized (this) {
+            vehicles.forEach(this::putVehicle);
+            version++;
+        }
+        notifyObservers();
+    }
+
+    public void remove(Vehicle vehicle) {
+        removeAll(Collections.singletonList(vehicle));
+    }
+
+    public void removeAll(Collection<? extends Vehicle> vehicles) {
+        List<String> licensePlates = new ArrayList<>(vehicles.size());
+        vehicles.forEach(vehicle -> licensePlates.add(vehicle.getLicensePlate()));
+        removeLicensePlates(licensePlates);
+    }
+
+    public void removeLicensePlates(Collection<String> licensePlates) {
+        load();
+        synchronized (this) {
+            licensePlates.forEach(this::removeVehicle);
+            version++;
+        }
+        notifyObservers();
+    }
+
+    /**
+     * Registers an observer and delivers the current list to it right away.
+     */
+    public void addVehicleObserver(VehicleObserver vehicleObserver) {
+        synchronized (notificationLock) {
+            vehicleObservers.add(vehicleObserver);
+            vehicleObserver.onVehiclesChanged(getVehicles());
+        }
+    }
+
+    public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        vehicleObservers.remove(vehicleObserver);
+    }
+
+    private void putVehicle(Vehicle vehicle) {
+        Vehicle replaced = vehiclesByPlate.put(vehicle.getLicensePlate(), vehicle);
+        if (replaced != null) {
+            vehiclesByEntry.remove(replaced);
+            lotVehicles(replaced.getLotId()).decrementAndGet(replaced.getType());
+        }
+        vehiclesByEntry.add(vehicle);
+        lotVehicles(vehicle.getLotId()).incrementAndGet(vehicle.getType());
+    }
+
+    private void removeVehicle(String licensePlate) {
+        Vehicle removed = vehiclesByPlate.remove(licensePlate);
+        if (removed != null) {
+            vehiclesByEntry.remove(removed);
+            lotVehicles(removed.getLotId()).decrementAndGet(removed.getType());
+        }
+    }
+
+    private AtomicIntegerArray lotVehicles(int lotId) {
+        return vehiclesByLot.computeIfAbsent(lotId, id -> new AtomicIntegerArray(VehicleType.COUNT));
+    }
+
+    /**
+     * Copies are taken and delivered under the notification lock, so they arrive in write order.
+     */
+    private void notifyObservers() {
+        synchronized (notificationLock) {
+            if (vehicleObservers.isEmpty()) {
+                return;
+            }
+            List<Vehicle> vehicles;
+            synchronized (this) {
+                if (version == notifiedVersion) {
+                    return;
+                }
+                notifiedVersion = version;
+                vehicles = new ArrayList<>(vehiclesByEntry);
+            }
+            vehicleObservers.forEach(vehicleObserver -> vehicleObserver.onVehiclesChanged(vehicles));
+        }
+    }
+
+    private void load() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    source.getVehicles().forEach(this::putVehicle);
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.domain.parking.store;
+
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link CarRepository} that writes through to the database and answers every query from the
+ * {@link ParkedVehicleStore}. The store only changes once the database write has been accepted.
+ */
+public class WriteThroughCarRepository implements CarRepository {
+
+    private final CarRepository delegate;
+    private final ParkedVehicleStore parkedVehicleStore;
+
+    public WriteThroughCarRepository(CarRepository delegate, ParkedVehicleStore parkedVehicleStore) {
+        this.delegate = delegate;
+        this.parkedVehicleStore = parkedVehicleStore;
+    }
+
+    @Override
+    public void saveCar(Car car) {
+        delegate.saveCar(car);
+        parkedVehicleStore.put(car);
+    }
+
+    @Override
+    public void deleteCar(Car car) {
+        delegate.deleteCar(car);
+        parkedVehicleStore.remove(car);
+    }
+
+    @Override
+    public void saveCars(List<Car> cars) {
+        delegate.saveCars(cars);
+        parkedVehicleStore.putAll(cars);
+    }
+
+    @Override
+    public void deleteCars(List<Car> cars) {
+        delegate.deleteCars(cars);
+        parkedVehicleStore.removeAll(cars);
+    }
+
+    @Override
+    public int getNumberOfCars(int lotId) {
+        return parkedVehicleStore.getNumberOfVehicles(lotId, VehicleType.CAR);
+    }
+
+    @Override
+    public List<Car> getCars() {
+        List<Vehicle> vehicles = parkedVehicleStore.getVehicles(VehicleType.CAR);
+        List<Car> cars = new ArrayList<>(vehicles.size());
+        vehicles.forEach(vehicle -> cars.add((Car) vehicle));
+        return cars;
+    }
+
+    @Override
+    public Car findCarByLicensePlate(String licensePlate) {
+        return (Car) parkedVehicleStore.findVehicle(licensePlate, VehicleType.CAR);
+    }
+
+    @Override
+    public boolean existsCarByLicensePlate(String licensePlate) {
+        return parkedVehicleStore.findVehicle(licensePlate, VehicleType.CAR) != null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.domain.parking.store;
+
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link MotorcycleRepository} that writes through to the database and answers every query from the
+ * {@link ParkedVehicleStore}. The store only changes once the database write has been accepted.
+ */
+public class WriteThroughMotorcycleRepository implements MotorcycleRepository {
+
+    private final MotorcycleRepository delegate;
+    private final ParkedVehicleStore parkedVehicleStore;
+
+    public WriteThroughMotorcycleRepository(MotorcycleRepository delegate, ParkedVehicleStore parkedVehicleStore) {
+        this.delegate = delegate;
+        this.parkedVehicleStore = parkedVehicleStore;
+    }
+
+    @Override
+    public void saveMotorcycle(Motorcycle motorcycle) {
+        delegate.saveMotorcycle(motorcycle);
+        parkedVehicleStore.put(motorcycle);
+    }
+
+    @Override
+    public void deleteMotorcycle(Motorcycle motorcycle) {
+        delegate.deleteMotorcycle(motorcycle);
+        parkedVehicleStore.remove(motorcycle);
+    }
+
+    @Override
+    public void saveMotorcycles(List<Motorcycle> motorcycles) {
+        delegate.saveMotorcycles(motorcycles);
+        parkedVehicleStore.putAll(motorcycles);
+    }
+
+    @Override
+    public void deleteMotorcycles(List<Motorcycle> motorcycles) {
+        delegate.deleteMotorcycles(motorcycles);
+        parkedVehicleStore.removeAll(motorcycles);
+    }
+
+    @Override
+    public int getNumberOfMotorcycles(int lotId) {
+        return parkedVehicleStore.getNumberOfVehicles(lotId, VehicleType.MOTORCYCLE);
+    }
+
+    @Override
+    public List<Motorcycle> getMotorcycles() {
+        List<Vehicle> vehicles = parkedVehicleStore.getVehicles(VehicleType.MOTORCYCLE);
+        List<Motorcycle> motorcycles = new ArrayList<>(vehicles.size());
+        vehicles.forEach(vehicle -> motorcycles.add((Motorcycle) vehicle));
+        return motorcycles;
+    }
+
+    @Override
+    public Motorcycle findMotorcycleByLicensePlate(String licensePlate) {
+        return (Motorcycle) parkedVehicleStore.findVehicle(licensePlate, VehicleType.MOTORCYCLE);
+    }
+
+    @Override
+    public boolean existsMotorcycleByLicensePlate(String licensePlate) {
+        return parkedVehicleStore.findVehicle(licensePlate, VehicleType.MOTORCYCLE) != null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.domain.parking.store;
+
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.TicketRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drops checked-out vehicles from the {@link ParkedVehicleStore} once the check-out is stored.
+ */
+public class WriteThroughTicketRepository implements TicketRepository {
+
+    private final TicketRepository delegate;
+    private final ParkedVehicleStore parkedVehicleStore;
+
+    public WriteThroughTicketRepository(TicketRepository delegate, ParkedVehicleStore parkedVehicleStore) {
+        this.delegate = delegate;
+        this.parkedVehicleStore = parkedVehicleStore;
+    }
+
+    @Override
+    public void archiveTickets(List<Ticket> tickets) {
+        delegate.archiveTickets(tickets);
+        List<String> licensePlates = new ArrayList<>(tickets.size());
+        tickets.forEach(ticket -> licensePlates.add(ticket.getLicensePlate()));
+        parkedVehicleStore.removeLicensePlates(licensePlates);
+    }
+
+    @Override
+    public List<Ticket> getTickets(long fromExitDay, long toExitDay) {
+        return delegate.getTickets(fromExitDay, toExitDay);
+    }
+
+    @Override
+    public int pruneTickets(long beforeExitDay) {
+        return delegate.pruneTickets(beforeExitDay);
+    }
+
+    @Override
+    public List<RevenueRollup> getHourlyRollups(long fromExitHour, long toExitHour) {
+        return delegate.getHourlyRollups(fromExitHour, toExitHour);
+    }
+
+    @Override
+    public List<RevenueRollup> getDailyRollups(long fromExitDay, long toExitDay) {
+        return delegate.getDailyRollups(fromExitDay, toExitDay);
+    }
+
+    @Override
+    public void rebuildRollups() {
+        delegate.rebuildRollups();
+    }
+}
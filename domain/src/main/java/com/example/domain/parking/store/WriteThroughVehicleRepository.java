@@ -0,0 +1,57 @@
+package com.example.domain.parking.store;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import java.util.List;
+
+/**
+ * Writes through to the database and reads from the {@link ParkedVehicleStore}.
+ */
+public class WriteThroughVehicleRepository implements VehicleRepository {
+
+    private final VehicleRepository delegate;
+    private final ParkedVehicleStore parkedVehicleStore;
+
+    public WriteThroughVehicleRepository(VehicleRepository delegate, ParkedVehicleStore parkedVehicleStore) {
+        this.delegate = delegate;
+        this.parkedVehicleStore = parkedVehicleStore;
+    }
+
+    @Override
+    public List<Vehicle> getVehicles() {
+        return parkedVehicleStore.getVehicles();
+    }
+
+    @Override
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        return parkedVehicleStore.getVehicles(offset, limit);
+    }
+
+    @Override
+    public List<Vehicle> getVehiclesInLot(int lotId) {
+        return parkedVehicleStore.getVehiclesInLot(lotId);
+    }
+
+    @Override
+    public List<String> getLicensePlates() {
+        return parkedVehicleStore.getLicensePlates();
+    }
+
+    @Override
+    public void saveVehicles(List<? extends Vehicle> vehicles) {
+        delegate.saveVehicles(vehicles);
+        parkedVehicleStore.putAll(vehicles);
+    }
+
+    @Override
+    public void addVehicleObserver(VehicleObserver vehicleObserver) {
+        parkedVehicleStore.addVehicleObserver(vehicleObserver);
+    }
+
+    @Override
+    public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        parkedVehicleStore.removeVehicleObserver(vehicleObserver);
+    }
+}
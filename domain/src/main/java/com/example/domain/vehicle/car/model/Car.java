@@ -2,6 +2,7 @@ package com.example.domain.vehicle.car.model;
 
 import com.example.domain.parking.service.ParkingService;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +12,15 @@ public class Car extends Vehicle {
         super(licensePlate, entryDate);
     }
 
+    public Car(String licensePlate, LocalDateTime entryDate, int lotId) {
+        super(licensePlate, entryDate, lotId);
+    }
+
+    @Override
+    public int getType() {
+        return VehicleType.CAR;
+    }
+
     @Override
     public void saveVehicle(ParkingService parkingService) {
         parkingService.saveCar(this, getEntryDate().getDayOfWeek().getValue());
@@ -18,8 +28,11 @@ public class Car extends Vehicle {
 
     @Override
     public int parkingCost(ParkingService parkingService) {
-        int bill = parkingService.carParkingCost(this, LocalDateTime.now());
-        parkingService.deleteCar(this);
-        return bill;
+        return parkingService.checkOutVehicle(this, LocalDateTime.now());
+    }
+
+    @Override
+    public int calculateParkingCost(ParkingService parkingService, LocalDateTime exitDate) {
+        return parkingService.carParkingCost(this, exitDate);
     }
 }
@@ -10,8 +10,19 @@ public interface CarRepository {
 
     void deleteCar(Car car);
 
-    int getNumberOfCars();
+    void saveCars(List<Car> cars);
+
+    void deleteCars(List<Car> cars);
+
+    /**
+     * Cars parked in one lot.
+     */
+    int getNumberOfCars(int lotId);
 
     List<Car> getCars();
 
+    Car findCarByLicensePlate(String licensePlate);
+
+    boolean existsCarByLicensePlate(String licensePlate);
+
 }
@@ -3,6 +3,7 @@ package com.example.domain.vehicle.motorcycle.model;
 import com.example.domain.parking.exception.GlobalException;
 import com.example.domain.parking.service.ParkingService;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +16,17 @@ public class Motorcycle extends Vehicle {
         setCylinderCapacity(cylinderCapacity);
     }
 
+    public Motorcycle(String licensePlate, LocalDateTime entryDate, int cylinderCapacity) {
+        super(licensePlate, entryDate);
+        this.cylinderCapacity = cylinderCapacity;
+    }
+
+    public Motorcycle(String licensePlate, LocalDateTime entryDate, int cylinderCapacity, int lotId) {
+        super(licensePlate, entryDate, lotId);
+        this.cylinderCapacity = cylinderCapacity;
+    }
+
+    @Override
     public int getCylinderCapacity() {
         return cylinderCapacity;
     }
@@ -26,6 +38,11 @@ public class Motorcycle extends Vehicle {
             throw new GlobalException("Ingrese el cilindraje del vehiculo", new Exception());
     }
 
+    @Override
+    public int getType() {
+        return VehicleType.MOTORCYCLE;
+    }
+
     @Override
     public void saveVehicle(ParkingService parkingService) {
         parkingService.saveMotorcycle(this, getEntryDate().getDayOfWeek().getValue());
@@ -33,8 +50,11 @@ public class Motorcycle extends Vehicle {
 
     @Override
     public int parkingCost(ParkingService parkingService) {
-        int bill = parkingService.motorcycleParkingCost(this, LocalDateTime.now());
-        parkingService.deleteMotorcycle(this);
-        return bill;
+        return parkingService.checkOutVehicle(this, LocalDateTime.now());
+    }
+
+    @Override
+    public int calculateParkingCost(ParkingService parkingService, LocalDateTime exitDate) {
+        return parkingService.motorcycleParkingCost(this, exitDate);
     }
 }
@@ -10,8 +10,19 @@ public interface MotorcycleRepository {
 
     void deleteMotorcycle(Motorcycle motorcycle);
 
-    int getNumberOfMotorcycles();
+    void saveMotorcycles(List<Motorcycle> motorcycles);
+
+    void deleteMotorcycles(List<Motorcycle> motorcycles);
+
+    /**
+     * Motorcycles parked in one lot.
+     */
+    int getNumberOfMotorcycles(int lotId);
 
     List<Motorcycle> getMotorcycles();
 
+    Motorcycle findMotorcycleByLicensePlate(String licensePlate);
+
+    boolean existsMotorcycleByLicensePlate(String licensePlate);
+
 }
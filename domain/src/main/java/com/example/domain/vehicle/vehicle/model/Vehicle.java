@@ -1,18 +1,32 @@
 package com.example.domain.vehicle.vehicle.model;
 
 import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.model.Parking;
 import com.example.domain.parking.service.ParkingService;
 
 import java.time.LocalDateTime;
 
 public abstract class Vehicle {
 
+    /**
+     * Bay of a vehicle that has not been given one, such as one parked before bays were assigned.
+     */
+    public static final int NO_BAY = 0;
     protected String licensePlate;
     protected LocalDateTime entryDate;
+    private long entryMillis;
+    private final int lotId;
+    private int bay = NO_BAY;
 
     public Vehicle(String licensePlate, LocalDateTime entryDate) {
+        this(licensePlate, entryDate, Parking.DEFAULT_LOT_ID);
+    }
+
+    public Vehicle(String licensePlate, LocalDateTime entryDate, int lotId) {
         setLicensePlate(licensePlate);
         setEntryDate(entryDate);
+        this.lotId = lotId;
     }
 
     public String getLicensePlate() {
@@ -32,9 +46,46 @@ public abstract class Vehicle {
 
     private void setEntryDate(LocalDateTime entryDate) {
         this.entryDate = entryDate;
+        if (entryDate != null) {
+            this.entryMillis = EpochMillis.of(entryDate);
+        }
+    }
+
+    public long getEntryMillis() {
+        return entryMillis;
+    }
+
+    /**
+     * The lot the vehicle is parked in.
+     */
+    public int getLotId() {
+        return lotId;
+    }
+
+    /**
+     * The bay the vehicle is parked in, numbered within its lot and vehicle class, or
+     * {@link #NO_BAY}.
+     */
+    public int getBay() {
+        return bay;
+    }
+
+    public void assignBay(int bay) {
+        this.bay = bay;
+    }
+
+    public abstract int getType();
+
+    /**
+     * Engine size used for surcharges, zero for vehicle classes that are not billed by it.
+     */
+    public int getCylinderCapacity() {
+        return 0;
     }
 
     public abstract void saveVehicle(ParkingService parkingService);
 
     public abstract int parkingCost(ParkingService parkingService);
+
+    public abstract int calculateParkingCost(ParkingService parkingService, LocalDateTime exitDate);
 }
@@ -0,0 +1,14 @@
+package com.example.domain.vehicle.vehicle.model;
+
+/**
+ * Primitive identifiers of the vehicle classes, used to index rate tables and stored as the type
+ * column of the database rows.
+ */
+public final class VehicleType {
+
+    public static final int CAR = 0;
+    public static final int MOTORCYCLE = 1;
+    public static final int COUNT = 2;
+
+    private VehicleType() {}
+}
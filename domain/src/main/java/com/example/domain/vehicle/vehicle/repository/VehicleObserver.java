@@ -0,0 +1,15 @@
+package com.example.domain.vehicle.vehicle.repository;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.util.List;
+
+public interface VehicleObserver {
+
+    /**
+     * Called with the complete list of parked vehicles, ordered by entry date, once when the
+     * observer is added and again after every change to the stored vehicles.
+     */
+    void onVehiclesChanged(List<Vehicle> vehicles);
+
+}
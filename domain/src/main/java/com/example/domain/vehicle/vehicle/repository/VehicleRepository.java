@@ -0,0 +1,33 @@
+package com.example.domain.vehicle.vehicle.repository;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.util.List;
+
+public interface VehicleRepository {
+
+    List<Vehicle> getVehicles();
+
+    List<Vehicle> getVehicles(int offset, int limit);
+
+    /**
+     * Vehicles parked in one lot, ordered by entry date.
+     */
+    List<Vehicle> getVehiclesInLot(int lotId);
+
+    /**
+     * License plates of every parked vehicle, without loading the vehicles themselves.
+     */
+    List<String> getLicensePlates();
+
+    /**
+     * Stores a batch of cars and motorcycles in a single transaction: either every vehicle is
+     * stored or none is.
+     */
+    void saveVehicles(List<? extends Vehicle> vehicles);
+
+    void addVehicleObserver(VehicleObserver vehicleObserver);
+
+    void removeVehicleObserver(VehicleObserver vehicleObserver);
+
+}
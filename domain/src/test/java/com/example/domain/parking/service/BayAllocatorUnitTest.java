@@ -0,0 +1,122 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.model.BayAllocator;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughCarRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class BayAllocatorUnitTest {
+
+    private static final LocalDateTime ENTRY_DATE = LocalDateTime
+            .of(2021, 5, 25, 13, 57, 0);
+
+    @Test
+    public void takeLowestBay_freedBayReused_isCorrect() {
+        //Arrange
+        BayAllocator bayAllocator = new BayAllocator(3);
+        bayAllocator.takeLowestBay();
+        bayAllocator.takeLowestBay();
+        bayAllocator.takeLowestBay();
+        //Act
+        bayAllocator.freeBay(2);
+        int bay = bayAllocator.takeLowestBay();
+        int fullBay = bayAllocator.takeLowestBay();
+        //Assert
+        assertEquals(2, bay);
+        assertEquals(Vehicle.NO_BAY, fullBay);
+        assertEquals(0, bayAllocator.getFreeBays());
+    }
+
+    @Test
+    public void takeNearestBay_isCorrect() {
+        //Arrange
+        BayAllocator bayAllocator = new BayAllocator(200);
+        for (int bay = 90; bay <= 110; bay++) {
+            bayAllocator.occupyBay(bay);
+        }
+        bayAllocator.occupyBay(88);
+        bayAllocator.occupyBay(89);
+        //Act
+        int nearestBay = bayAllocator.takeNearestBay(100);
+        int belowBay = bayAllocator.takeNearestBay(99);
+        int pastLastBay = bayAllocator.takeNearestBay(500);
+        //Assert
+        assertEquals(111, nearestBay);
+        assertEquals(87, belowBay);
+        assertEquals(200, pastLastBay);
+    }
+
+    @Test
+    public void saveCar_bayAssignedAndFreed_isCorrect() {
+        //Arrange
+        VehicleRepository vehicleRepository = Mockito.mock(VehicleRepository.class);
+        Car parkedCar = new Car("YMU-95C", ENTRY_DATE);
+        parkedCar.assignBay(1);
+        Motorcycle parkedMotorcycle = new Motorcycle("YMU-95D", ENTRY_DATE, 650);
+        parkedMotorcycle.assignBay(1);
+        when(vehicleRepository.getVehicles()).thenReturn(Arrays.asList(parkedCar, parkedMotorcycle));
+        when(vehicleRepository.getLicensePlates()).thenReturn(Arrays.asList("YMU-95C", "YMU-95D"));
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), vehicleRepository,
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        Car car = new Car("YMU-96C", ENTRY_DATE);
+        Motorcycle motorcycle = new Motorcycle("YMU-96D", ENTRY_DATE, 150);
+        //Act
+        parkingService.saveCar(car, 2);
+        parkingService.saveMotorcycle(motorcycle, 2);
+        parkingService.deleteCar(parkedCar);
+        //Assert
+        assertEquals(2, car.getBay());
+        assertEquals(2, motorcycle.getBay());
+        assertTrue(parkingService.isBayFree(Parking.DEFAULT_LOT_ID, VehicleType.CAR, 1));
+        assertFalse(parkingService.isBayFree(Parking.DEFAULT_LOT_ID, VehicleType.MOTORCYCLE, 1));
+    }
+
+    @Test
+    public void saveCar_failedWrite_bayFreed() {
+        //Arrange
+        CarRepository carRepository = new WriteThroughCarRepository(Mockito.mock(CarRepository.class),
+                new ParkedVehicleStore(Mockito.mock(VehicleRepository.class))) {
+            @Override
+            public void saveCar(Car car) {
+                throw new IllegalStateException();
+            }
+        };
+        ParkingService parkingService = new ParkingService(carRepository,
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        //Act
+        try {
+            parkingService.saveCar(car, 2);
+        } catch (IllegalStateException ignored) {
+            // The database refused the write
+        }
+        //Assert
+        assertEquals(Vehicle.NO_BAY, car.getBay());
+        assertTrue(parkingService.isBayFree(Parking.DEFAULT_LOT_ID, VehicleType.CAR, 1));
+    }
+}
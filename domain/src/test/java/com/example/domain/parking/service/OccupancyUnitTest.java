@@ -0,0 +1,272 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.exception.ParkingLimitException;
+import com.example.domain.parking.exception.ParkingLotNotFoundException;
+import com.example.domain.parking.model.Occupancy;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OccupancyUnitTest {
+
+    @Test
+    public void getOccupiedSpaces_seededOnce_isCorrect() {
+        //Arrange
+        AtomicInteger seedCalls = new AtomicInteger();
+        Occupancy occupancy = new Occupancy(20, () -> {
+            seedCalls.incrementAndGet();
+            return 5;
+        });
+        //Act
+        occupancy.reserveSpace();
+        occupancy.commitSpace();
+        occupancy.reserveSpace();
+        occupancy.commitSpace();
+        occupancy.freeSpace();
+        //Assert
+        assertEquals(6, occupancy.getOccupiedSpaces());
+        assertEquals(1, seedCalls.get());
+    }
+
+    @Test
+    public void freeSpace_emptyParking_isCorrect() {
+        //Arrange
+        Occupancy occupancy = new Occupancy(20, () -> 0);
+        //Act
+        occupancy.freeSpace();
+        //Assert
+        assertEquals(0, occupancy.getOccupiedSpaces());
+    }
+
+    @Test
+    public void reserveSpace_fullParking_isCorrect() {
+        //Arrange
+        Occupancy occupancy = new Occupancy(2, () -> 2);
+        //Act
+        boolean reserved = occupancy.reserveSpace();
+        //Assert
+        assertFalse(reserved);
+        assertEquals(2, occupancy.getOccupiedSpaces());
+    }
+
+    @Test
+    public void releaseSpace_reservationGivenBack_isCorrect() {
+        //Arrange
+        Occupancy occupancy = new Occupancy(1, () -> 0);
+        //Act
+        occupancy.reserveSpace();
+        occupancy.releaseSpace();
+        boolean reserved = occupancy.reserveSpace();
+        //Assert
+        assertTrue(reserved);
+        assertEquals(1, occupancy.getOccupiedSpaces());
+        assertEquals(1, occupancy.getReservedSpaces());
+    }
+
+    @Test
+    public void reserveSpace_concurrentThreads_neverExceedsCapacity() throws InterruptedException {
+        //Arrange
+        int threads = 16;
+        int operationsPerThread = 20000;
+        int capacity = 20;
+        Occupancy occupancy = new Occupancy(capacity, () -> 0);
+        AtomicInteger maxOccupiedSpaces = new AtomicInteger();
+        AtomicInteger committedSpaces = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        //Act
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            executorService.execute(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < operationsPerThread; j++) {
+                    if (occupancy.reserveSpace()) {
+                        maxOccupiedSpaces.accumulateAndGet(occupancy.getOccupiedSpaces(), Math::max);
+                        if ((thread + j) % 3 == 0) {
+                            occupancy.commitSpace();
+                            committedSpaces.incrementAndGet();
+                        } else {
+                            occupancy.releaseSpace();
+                        }
+                    }
+                    if (j % 7 == 0 && committedSpaces.getAndUpdate(
+                            spaces -> spaces > 0 ? spaces - 1 : 0) > 0) {
+                        occupancy.freeSpace();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        //Assert
+        assertTrue(maxOccupiedSpaces.get() <= capacity);
+        assertEquals(0, occupancy.getReservedSpaces());
+        assertEquals(committedSpaces.get(), occupancy.getOccupiedSpaces());
+    }
+
+    @Test
+    public void saveCar_concurrentEntries_neverExceedsCapacity() throws InterruptedException {
+        //Arrange
+        int threads = 32;
+        int maxNumberOfCars = new Parking().getMaxNumberOfCars();
+        AtomicInteger savedCars = new AtomicInteger();
+        AtomicInteger rejectedCars = new AtomicInteger();
+        CarRepository carRepository = Mockito.mock(CarRepository.class);
+        MotorcycleRepository motorcycleRepository = Mockito.mock(MotorcycleRepository.class);
+        ParkingService parkingService = new ParkingService(carRepository, motorcycleRepository,
+                Mockito.mock(VehicleRepository.class), Mockito.mock(TariffRepository.class),
+                Mockito.mock(ParkingLotRepository.class), Mockito.mock(TicketRepository.class));
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        //Act
+        for (int i = 0; i < threads * 4; i++) {
+            Car car = new Car("YMU-" + i, entryDate);
+            executorService.execute(() -> {
+                awaitQuietly(start);
+                try {
+                    parkingService.saveCar(car, 2);
+                    savedCars.incrementAndGet();
+                } catch (ParkingLimitException e) {
+                    rejectedCars.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        //Assert
+        assertEquals(maxNumberOfCars, savedCars.get());
+        assertEquals(threads * 4 - maxNumberOfCars, rejectedCars.get());
+    }
+
+    @Test
+    public void saveCar_countQueriedOnlyOnce_isCorrect() {
+        //Arrange
+        CarRepository carRepository = Mockito.mock(CarRepository.class);
+        MotorcycleRepository motorcycleRepository = Mockito.mock(MotorcycleRepository.class);
+        ParkingService parkingService = new ParkingService(carRepository, motorcycleRepository,
+                Mockito.mock(VehicleRepository.class), Mockito.mock(TariffRepository.class),
+                Mockito.mock(ParkingLotRepository.class), Mockito.mock(TicketRepository.class));
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        when(carRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID)).thenReturn(3);
+        //Act
+        parkingService.saveCar(new Car("YMU-95C", entryDate), 2);
+        parkingService.saveCar(new Car("YMU-96C", entryDate), 2);
+        parkingService.saveCar(new Car("YMU-97C", entryDate), 2);
+        //Assert
+        verify(carRepository, times(1)).getNumberOfCars(Parking.DEFAULT_LOT_ID);
+    }
+
+    @Test
+    public void saveCar_concurrentEntriesAcrossLots_neverExceedsLotCapacity() throws InterruptedException {
+        //Arrange
+        int threads = 32;
+        int numberOfLots = 200;
+        int maxNumberOfCars = 3;
+        List<Parking> lots = new ArrayList<>();
+        for (int lotId = 1; lotId <= numberOfLots; lotId++) {
+            lots.add(new Parking(lotId, maxNumberOfCars, 1));
+        }
+        ParkingLotRepository parkingLotRepository = Mockito.mock(ParkingLotRepository.class);
+        when(parkingLotRepository.getLots()).thenReturn(lots);
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), parkingLotRepository, Mockito.mock(TicketRepository.class));
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        AtomicInteger savedCars = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        //Act
+        for (int i = 0; i < numberOfLots * (maxNumberOfCars + 2); i++) {
+            Car car = new Car("YMU-" + i, entryDate, 1 + i % numberOfLots);
+            executorService.execute(() -> {
+                awaitQuietly(start);
+                try {
+                    parkingService.saveCar(car, 2);
+                    savedCars.incrementAndGet();
+                } catch (ParkingLimitException ignored) {
+                    // That lot is full
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        //Assert
+        assertEquals(numberOfLots * maxNumberOfCars, savedCars.get());
+        assertEquals(numberOfLots * (maxNumberOfCars + 1), parkingService.getTotalCapacity());
+        for (int lotId = 1; lotId <= numberOfLots; lotId++) {
+            assertEquals(0, parkingService.getFreeSpaces(lotId, VehicleType.CAR));
+            assertEquals(1, parkingService.getFreeSpaces(lotId, VehicleType.MOTORCYCLE));
+        }
+    }
+
+    @Test(expected = ParkingLotNotFoundException.class)
+    public void saveCar_unknownLot_isCorrect() {
+        //Arrange
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        //Act
+        parkingService.saveCar(new Car("YMU-95C", LocalDateTime.of(2021, 5, 25, 13, 57, 0), 7), 2);
+    }
+
+    @Test
+    public void saveLots_newLotAdmitsVehicles_isCorrect() {
+        //Arrange
+        CarRepository carRepository = Mockito.mock(CarRepository.class);
+        ParkingLotRepository parkingLotRepository = Mockito.mock(ParkingLotRepository.class);
+        ParkingService parkingService = new ParkingService(carRepository,
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), parkingLotRepository, Mockito.mock(TicketRepository.class));
+        List<Parking> lots = new ArrayList<>();
+        lots.add(new Parking(7, 1, 0));
+        //Act
+        parkingService.saveLots(lots);
+        parkingService.saveCar(new Car("YMU-95C", LocalDateTime.of(2021, 5, 25, 13, 57, 0), 7), 2);
+        //Assert
+        verify(parkingLotRepository, times(1)).saveLots(Mockito.anyList());
+        assertEquals(2, parkingService.getLots().size());
+        assertEquals(0, parkingService.getFreeSpaces(7, VehicleType.CAR));
+        assertEquals(20, parkingService.getFreeSpaces(Parking.DEFAULT_LOT_ID, VehicleType.CAR));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
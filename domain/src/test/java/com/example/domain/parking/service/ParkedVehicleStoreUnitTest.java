@@ -0,0 +1,224 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughCarRepository;
+import com.example.domain.parking.store.WriteThroughMotorcycleRepository;
+import com.example.domain.parking.store.WriteThroughVehicleRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParkedVehicleStoreUnitTest {
+
+    private static final LocalDateTime ENTRY_DATE = LocalDateTime
+            .of(2021, 5, 25, 13, 57, 0);
+
+    @Test
+    public void getVehicles_loadedOnce_isCorrect() {
+        //Arrange
+        VehicleRepository vehicleRepository = Mockito.mock(VehicleRepository.class);
+        when(vehicleRepository.getVehicles()).thenReturn(Arrays.asList(
+                new Car("YMU-95C", ENTRY_DATE.plusHours(1)),
+                new Motorcycle("YMU-95D", ENTRY_DATE, 650)));
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(vehicleRepository);
+        //Act
+        parkedVehicleStore.warmUp();
+        List<Vehicle> vehicles = parkedVehicleStore.getVehicles();
+        parkedVehicleStore.getLicensePlates();
+        parkedVehicleStore.getNumberOfVehicles(Parking.DEFAULT_LOT_ID, VehicleType.CAR);
+        //Assert
+        assertTrue(parkedVehicleStore.isWarm());
+        assertEquals(2, vehicles.size());
+        assertEquals("YMU-95D", vehicles.get(0).getLicensePlate());
+        assertEquals("YMU-95C", vehicles.get(1).getLicensePlate());
+        verify(vehicleRepository, times(1)).getVehicles();
+    }
+
+    @Test
+    public void getVehicles_page_isCorrect() {
+        //Arrange
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        List<Vehicle> parkedVehicles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            parkedVehicles.add(new Car("YMU-" + i, ENTRY_DATE.plusMinutes(i)));
+        }
+        parkedVehicleStore.putAll(parkedVehicles);
+        //Act
+        List<Vehicle> page = parkedVehicleStore.getVehicles(4, 3);
+        List<Vehicle> lastPage = parkedVehicleStore.getVehicles(9, 3);
+        //Assert
+        assertEquals(parkedVehicles.subList(4, 7), page);
+        assertEquals(parkedVehicles.subList(9, 10), lastPage);
+    }
+
+    @Test
+    public void saveCar_writeThrough_isCorrect() {
+        //Arrange
+        CarRepository carRepository = Mockito.mock(CarRepository.class);
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        WriteThroughCarRepository writeThroughCarRepository =
+                new WriteThroughCarRepository(carRepository, parkedVehicleStore);
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        //Act
+        writeThroughCarRepository.saveCar(car);
+        //Assert
+        verify(carRepository, times(1)).saveCar(car);
+        assertEquals(1, writeThroughCarRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID));
+        assertSame(car, writeThroughCarRepository.findCarByLicensePlate("YMU-95C"));
+        assertTrue(writeThroughCarRepository.existsCarByLicensePlate("YMU-95C"));
+        assertEquals(0, parkedVehicleStore.getNumberOfVehicles(Parking.DEFAULT_LOT_ID, VehicleType.MOTORCYCLE));
+        verify(carRepository, times(0)).getNumberOfCars(Parking.DEFAULT_LOT_ID);
+    }
+
+    @Test
+    public void deleteMotorcycle_writeThrough_isCorrect() {
+        //Arrange
+        MotorcycleRepository motorcycleRepository = Mockito.mock(MotorcycleRepository.class);
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        WriteThroughMotorcycleRepository writeThroughMotorcycleRepository =
+                new WriteThroughMotorcycleRepository(motorcycleRepository, parkedVehicleStore);
+        Motorcycle motorcycle = new Motorcycle("YMU-95D", ENTRY_DATE, 650);
+        writeThroughMotorcycleRepository.saveMotorcycle(motorcycle);
+        //Act
+        writeThroughMotorcycleRepository.deleteMotorcycle(new Motorcycle("YMU-95D", ENTRY_DATE, 650));
+        //Assert
+        verify(motorcycleRepository, times(1)).deleteMotorcycle(Mockito.any(Motorcycle.class));
+        assertEquals(0, writeThroughMotorcycleRepository.getNumberOfMotorcycles(Parking.DEFAULT_LOT_ID));
+        assertNull(writeThroughMotorcycleRepository.findMotorcycleByLicensePlate("YMU-95D"));
+        assertTrue(writeThroughMotorcycleRepository.getMotorcycles().isEmpty());
+    }
+
+    @Test
+    public void addVehicleObserver_notifiedOnWrite_isCorrect() {
+        //Arrange
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        WriteThroughCarRepository writeThroughCarRepository =
+                new WriteThroughCarRepository(Mockito.mock(CarRepository.class), parkedVehicleStore);
+        WriteThroughVehicleRepository writeThroughVehicleRepository =
+                new WriteThroughVehicleRepository(Mockito.mock(VehicleRepository.class), parkedVehicleStore);
+        List<List<Vehicle>> notifications = new ArrayList<>();
+        //Act
+        writeThroughVehicleRepository.addVehicleObserver(notifications::add);
+        writeThroughCarRepository.saveCar(new Car("YMU-95C", ENTRY_DATE));
+        //Assert
+        assertEquals(2, notifications.size());
+        assertTrue(notifications.get(0).isEmpty());
+        assertEquals(1, notifications.get(1).size());
+    }
+
+    @Test
+    public void addVehicleObserver_concurrentWrites_isCorrect() throws InterruptedException {
+        //Arrange
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        List<Integer> deliveredSizes = Collections.synchronizedList(new ArrayList<>());
+        parkedVehicleStore.addVehicleObserver(vehicles -> deliveredSizes.add(vehicles.size()));
+        Thread[] writers = new Thread[4];
+        int vehiclesPerWriter = 250;
+        //Act
+        for (int i = 0; i < writers.length; i++) {
+            int writer = i;
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < vehiclesPerWriter; j++) {
+                    parkedVehicleStore.put(new Car("W" + writer + "-" + j, ENTRY_DATE.plusMinutes(j)));
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        //Assert
+        for (int i = 1; i < deliveredSizes.size(); i++) {
+            assertTrue(deliveredSizes.get(i) > deliveredSizes.get(i - 1));
+        }
+        assertEquals(Integer.valueOf(writers.length * vehiclesPerWriter),
+                deliveredSizes.get(deliveredSizes.size() - 1));
+    }
+
+    @Test
+    public void saveCar_failedWrite_isCorrect() {
+        //Arrange
+        CarRepository carRepository = new WriteThroughCarRepository(Mockito.mock(CarRepository.class),
+                new ParkedVehicleStore(Mockito.mock(VehicleRepository.class))) {
+            @Override
+            public void saveCar(Car car) {
+                throw new IllegalStateException();
+            }
+        };
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        WriteThroughCarRepository writeThroughCarRepository =
+                new WriteThroughCarRepository(carRepository, parkedVehicleStore);
+        ParkingService parkingService = new ParkingService(writeThroughCarRepository,
+                Mockito.mock(MotorcycleRepository.class),
+                new WriteThroughVehicleRepository(Mockito.mock(VehicleRepository.class), parkedVehicleStore),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        //Act
+        try {
+            parkingService.saveCar(new Car("YMU-95C", ENTRY_DATE), 2);
+        } catch (IllegalStateException ignored) {
+            // The database refused the write
+        }
+        //Assert
+        assertEquals(0, writeThroughCarRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID));
+        assertFalse(parkingService.isParked("YMU-95C"));
+    }
+
+    @Test
+    public void saveVehicles_failedMixedWrite_isCorrect() {
+        //Arrange
+        VehicleRepository vehicleRepository = new WriteThroughVehicleRepository(
+                Mockito.mock(VehicleRepository.class), new ParkedVehicleStore(Mockito.mock(VehicleRepository.class))) {
+            @Override
+            public void saveVehicles(List<? extends Vehicle> vehicles) {
+                throw new IllegalStateException();
+            }
+        };
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        ParkingService parkingService = new ParkingService(
+                new WriteThroughCarRepository(Mockito.mock(CarRepository.class), parkedVehicleStore),
+                new WriteThroughMotorcycleRepository(Mockito.mock(MotorcycleRepository.class), parkedVehicleStore),
+                new WriteThroughVehicleRepository(vehicleRepository, parkedVehicleStore),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        List<Vehicle> vehicles = new ArrayList<>();
+        vehicles.add(new Car("YMU-95C", ENTRY_DATE));
+        vehicles.add(new Motorcycle("YMU-95D", ENTRY_DATE, "650"));
+        //Act
+        try {
+            parkingService.saveVehicles(vehicles);
+        } catch (IllegalStateException ignored) {
+            // The database refused the whole batch
+        }
+        //Assert
+        assertTrue(parkedVehicleStore.getVehicles().isEmpty());
+        assertFalse(parkingService.isParked("YMU-95C"));
+        assertFalse(parkingService.isParked("YMU-95D"));
+    }
+}
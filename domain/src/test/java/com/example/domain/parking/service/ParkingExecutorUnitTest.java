@@ -0,0 +1,138 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.exception.ParkingBusyException;
+import com.example.domain.parking.executor.LaneMetrics;
+import com.example.domain.parking.executor.ParkingExecutor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParkingExecutorUnitTest {
+
+    private static final int QUEUE_CAPACITY = 8;
+    private ParkingExecutor parkingExecutor;
+
+    @Before
+    public void initElements() {
+        parkingExecutor = new ParkingExecutor(4, QUEUE_CAPACITY);
+    }
+
+    @After
+    public void shutdown() {
+        parkingExecutor.shutdown();
+    }
+
+    @Test
+    public void getWriter_queuedTasks_runInSubmissionOrder() throws InterruptedException {
+        //Arrange
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        int tasks = 1000;
+        //Act
+        for (int i = 0; i < tasks; i++) {
+            int task = i;
+            while (true) {
+                try {
+                    parkingExecutor.getWriter().execute(() -> executed.add(task));
+                    break;
+                } catch (ParkingBusyException e) {
+                    Thread.sleep(1);
+                }
+            }
+        }
+        parkingExecutor.getWriter().shutdown();
+        assertTrue(parkingExecutor.getWriter().awaitTermination(30, TimeUnit.SECONDS));
+        //Assert
+        assertEquals(tasks, executed.size());
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(Integer.valueOf(i), executed.get(i));
+        }
+    }
+
+    @Test
+    public void getWriter_fullQueue_isCorrect() throws InterruptedException {
+        //Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        parkingExecutor.getWriter().execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await();
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            parkingExecutor.getWriter().execute(() -> { });
+        }
+        //Act
+        try {
+            parkingExecutor.getWriter().execute(() -> { });
+            fail();
+        } catch (ParkingBusyException e) {
+            //Assert
+            LaneMetrics metrics = parkingExecutor.getWriterMetrics();
+            assertEquals(QUEUE_CAPACITY, metrics.getQueueDepth());
+            assertEquals(1, metrics.getActiveTasks());
+            assertEquals(1, metrics.getRejectedTasks());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void getReader_submittedQuery_recordsLatency() throws ExecutionException, InterruptedException {
+        //Arrange
+        Future<Integer> query = parkingExecutor.getReader().submit(() -> {
+            Thread.sleep(5);
+            return 42;
+        });
+        //Act
+        int result = query.get();
+        parkingExecutor.getReader().shutdown();
+        assertTrue(parkingExecutor.getReader().awaitTermination(30, TimeUnit.SECONDS));
+        //Assert
+        LaneMetrics metrics = parkingExecutor.getReaderMetrics();
+        assertEquals(42, result);
+        assertEquals(1, metrics.getCompletedTasks());
+        assertTrue(metrics.getMaxLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(metrics.getMaxLatencyNanos(), metrics.getAverageLatencyNanos());
+    }
+
+    @Test
+    public void getReader_failedQuery_isCorrect() throws InterruptedException {
+        //Arrange
+        Future<Integer> query = parkingExecutor.getReader().submit(() -> {
+            throw new IllegalStateException();
+        });
+        //Act
+        try {
+            query.get();
+            fail();
+        } catch (ExecutionException e) {
+            parkingExecutor.getReader().shutdown();
+            assertTrue(parkingExecutor.getReader().awaitTermination(30, TimeUnit.SECONDS));
+            //Assert
+            LaneMetrics metrics = parkingExecutor.getReaderMetrics();
+            assertEquals(0, metrics.getCompletedTasks());
+            assertEquals(1, metrics.getFailedTasks());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
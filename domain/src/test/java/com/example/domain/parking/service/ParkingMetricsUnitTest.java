@@ -0,0 +1,100 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.metrics.InstrumentedParkingService;
+import com.example.domain.parking.metrics.LatencyHistogram;
+import com.example.domain.parking.metrics.OperationSnapshot;
+import com.example.domain.parking.metrics.ParkingMetrics;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParkingMetricsUnitTest {
+
+    private static final long SLOW_SAVE_MILLIS = 20;
+
+    @Test
+    public void getValueAtPercentile_uniformLatencies_isCorrect() {
+        //Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        //Act
+        for (long micros = 1; micros <= 100000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        //Assert
+        assertEquals(100000, histogram.getCount());
+        assertWithin(50000000, histogram.getValueAtPercentile(50));
+        assertWithin(99000000, histogram.getValueAtPercentile(99));
+        assertWithin(99900000, histogram.getValueAtPercentile(99.9));
+        assertEquals(100000000, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getValueAtPercentile_emptyHistogram_isCorrect() {
+        //Act
+        long p99 = new LatencyHistogram().getValueAtPercentile(99);
+        //Assert
+        assertEquals(0, p99);
+    }
+
+    @Test
+    public void saveCar_slowRepository_splitsRepositoryAndDomainTime() {
+        //Arrange
+        ParkingMetrics parkingMetrics = new ParkingMetrics();
+        ParkingService parkingService = new InstrumentedParkingService(slowCarRepository(),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class), parkingMetrics);
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        //Act
+        parkingService.saveCar(new Car("YMU-95C", entryDate), 2);
+        parkingService.saveCar(new Car("YMU-96C", entryDate), 2);
+        //Assert
+        OperationSnapshot saveCar = find(parkingMetrics.snapshot(), "parkingService.saveCar");
+        OperationSnapshot repositorySaveCar = find(parkingMetrics.snapshot(), "carRepository.saveCar");
+        assertEquals(2, saveCar.getCount());
+        assertEquals(2, repositorySaveCar.getCount());
+        assertTrue(saveCar.getRepositoryNanos() >= TimeUnit.MILLISECONDS.toNanos(2 * SLOW_SAVE_MILLIS));
+        assertTrue(saveCar.getDomainNanos() >= 0);
+        assertTrue(saveCar.getDomainNanos() < saveCar.getRepositoryNanos());
+        assertTrue(repositorySaveCar.isRepository());
+    }
+
+    private static CarRepository slowCarRepository() {
+        return (CarRepository) Proxy.newProxyInstance(CarRepository.class.getClassLoader(),
+                new Class<?>[]{CarRepository.class}, (proxy, method, arguments) -> {
+                    if ("saveCar".equals(method.getName())) {
+                        Thread.sleep(SLOW_SAVE_MILLIS);
+                    }
+                    return method.getReturnType() == int.class ? 0 : null;
+                });
+    }
+
+    private static OperationSnapshot find(List<OperationSnapshot> snapshots, String name) {
+        for (OperationSnapshot snapshot : snapshots) {
+            if (snapshot.getName().equals(name)) {
+                return snapshot;
+            }
+        }
+        throw new AssertionError(name + " was not recorded");
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(expected + " ~ " + actual, Math.abs(actual - expected) <= expected / 16);
+    }
+}
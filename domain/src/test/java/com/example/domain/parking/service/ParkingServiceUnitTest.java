@@ -1,24 +1,51 @@
 package com.example.domain.parking.service;
 
+import com.example.domain.parking.exception.BlacklistedVehicleException;
+import com.example.domain.parking.exception.InvalidTariffException;
 import com.example.domain.parking.exception.ParkingLimitException;
 import com.example.domain.parking.exception.RestrictedAccessByDayException;
+import com.example.domain.parking.exception.VehicleAlreadyParkedException;
 import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.model.Rate;
+import com.example.domain.parking.model.RatePlan;
+import com.example.domain.parking.model.RevenueProjection;
+import com.example.domain.parking.model.Tariff;
+import com.example.domain.parking.model.TariffRate;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.rule.AccessRule;
 import com.example.domain.vehicle.car.model.Car;
 import com.example.domain.vehicle.motorcycle.model.Motorcycle;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
 import com.example.domain.vehicle.car.repository.CarRepository;
 import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ParkingServiceUnitTest {
@@ -29,17 +56,37 @@ public class ParkingServiceUnitTest {
     @Mock
     private MotorcycleRepository motorcycleRepository;
 
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private TariffRepository tariffRepository;
+
+    @Mock
+    private ParkingLotRepository parkingLotRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
     private Parking parking;
     int sunday = 7;
     private ParkingService parkingService;
     private static final String RESTRICTED_ACCESS_BY_DAY = "The vehicle's license plate is restricted for today's entry.";
     private static final String PARKING_LIMIT_EXCEPTION = "The parking lot has reached its capacity limit.";
+    private static final String VEHICLE_ALREADY_PARKED = "A vehicle with this license plate is already parked.";
+    private static final String BLACKLISTED_VEHICLE = "The vehicle's license plate is not allowed in the parking lot.";
+    private static final String INVALID_TARIFF = "The tariff must price every vehicle class exactly once.";
 
     @Before
     public void initElements() {
         carRepository = Mockito.mock(CarRepository.class);
         motorcycleRepository = Mockito.mock(MotorcycleRepository.class);
-        parkingService = new ParkingService(carRepository, motorcycleRepository);
+        vehicleRepository = Mockito.mock(VehicleRepository.class);
+        tariffRepository = Mockito.mock(TariffRepository.class);
+        parkingLotRepository = Mockito.mock(ParkingLotRepository.class);
+        ticketRepository = Mockito.mock(TicketRepository.class);
+        parkingService = new ParkingService(carRepository, motorcycleRepository, vehicleRepository,
+                tariffRepository, parkingLotRepository, ticketRepository);
         parking = new Parking();
     }
 
@@ -168,7 +215,7 @@ public class ParkingServiceUnitTest {
         LocalDateTime entryDate = LocalDateTime
                 .of(2021, 5, 23, 13, 57, 0);
         Car car = new Car("YMU-95C", entryDate);
-        when(carRepository.getNumberOfCars()).thenReturn(parking.getMaxNumberOfCars());
+        when(carRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID)).thenReturn(parking.getMaxNumberOfCars());
         //Act
         try {
             parkingService.saveCar(car, sunday);
@@ -184,7 +231,7 @@ public class ParkingServiceUnitTest {
         LocalDateTime entryDate = LocalDateTime
                 .of(2021, 5, 23, 13, 57, 0);
         Car car = new Car("AMU-95C", entryDate);
-        when(carRepository.getNumberOfCars()).thenReturn(7);
+        when(carRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID)).thenReturn(7);
         //Act
         try {
             parkingService.saveCar(car, sunday);
@@ -200,7 +247,7 @@ public class ParkingServiceUnitTest {
         LocalDateTime entryDate = LocalDateTime
                 .of(2021, 5, 23, 13, 57, 0);
         Motorcycle motorcycle = new Motorcycle("YMU-95C", entryDate, "500");
-        when(motorcycleRepository.getNumberOfMotorcycles()).thenReturn(parking.getMaxNumberOfMotorcycles());
+        when(motorcycleRepository.getNumberOfMotorcycles(Parking.DEFAULT_LOT_ID)).thenReturn(parking.getMaxNumberOfMotorcycles());
         //Act
         try {
             parkingService.saveMotorcycle(motorcycle, sunday);
@@ -216,7 +263,7 @@ public class ParkingServiceUnitTest {
         LocalDateTime entryDate = LocalDateTime
                 .of(2021, 5, 23, 13, 57, 0);
         Motorcycle motorcycle = new Motorcycle("AMU-95C", entryDate, "500");
-        when(motorcycleRepository.getNumberOfMotorcycles()).thenReturn(7);
+        when(motorcycleRepository.getNumberOfMotorcycles(Parking.DEFAULT_LOT_ID)).thenReturn(7);
         //Act
         try {
             parkingService.saveMotorcycle(motorcycle, sunday);
@@ -225,4 +272,275 @@ public class ParkingServiceUnitTest {
             assertEquals(RESTRICTED_ACCESS_BY_DAY, e.getMessage());
         }
     }
+
+    @Test
+    public void saveVehicles_batchOverCapacity_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        List<Vehicle> vehicles = new ArrayList<>();
+        vehicles.add(new Car("YMU-95C", entryDate));
+        vehicles.add(new Car("YMU-96C", entryDate));
+        when(carRepository.getNumberOfCars(Parking.DEFAULT_LOT_ID)).thenReturn(parking.getMaxNumberOfCars() - 1);
+        //Act
+        try {
+            parkingService.saveVehicles(vehicles);
+            fail();
+        } catch (ParkingLimitException e) {
+            //Assert
+            assertEquals(PARKING_LIMIT_EXCEPTION, e.getMessage());
+            verify(carRepository, never()).saveCars(anyList());
+        }
+    }
+
+    @Test
+    public void saveVehicles_restrictedPlateInBatch_isCorrect() {
+        //Arrange
+        LocalDateTime sundayEntryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        List<Vehicle> vehicles = new ArrayList<>();
+        vehicles.add(new Car("YMU-95C", sundayEntryDate));
+        vehicles.add(new Motorcycle("AMU-95C", sundayEntryDate, "500"));
+        //Act
+        try {
+            parkingService.saveVehicles(vehicles);
+            fail();
+        } catch (RestrictedAccessByDayException e) {
+            //Assert
+            assertEquals(RESTRICTED_ACCESS_BY_DAY, e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkOutVehicles_carAndMotorcycle_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        LocalDateTime exitDate = LocalDateTime
+                .of(2021, 5, 23, 18, 57, 0);
+        List<Vehicle> vehicles = new ArrayList<>();
+        vehicles.add(new Car("YMU-94C", entryDate));
+        vehicles.add(new Car("YMU-95C", entryDate));
+        vehicles.add(new Motorcycle("YMU-96C", entryDate, "650"));
+        when(vehicleRepository.getLicensePlates()).thenReturn(Arrays.asList("YMU-95C", "YMU-96C"));
+        //Act
+        List<Ticket> tickets = parkingService.checkOutVehicles(vehicles, exitDate);
+        //Assert
+        assertEquals(2, tickets.size());
+        assertEquals("YMU-95C", tickets.get(0).getLicensePlate());
+        assertEquals(5000, tickets.get(0).getCost());
+        assertEquals("YMU-96C", tickets.get(1).getLicensePlate());
+        assertEquals(4500, tickets.get(1).getCost());
+    }
+
+    @Test
+    public void saveCar_licensePlateAlreadyParked_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        when(vehicleRepository.getLicensePlates()).thenReturn(Arrays.asList("YMU-95C"));
+        //Act
+        try {
+            parkingService.saveCar(car, 2);
+            fail();
+        } catch (VehicleAlreadyParkedException e) {
+            //Assert
+            assertEquals(VEHICLE_ALREADY_PARKED, e.getMessage());
+            verify(carRepository, never()).saveCar(car);
+        }
+    }
+
+    @Test
+    public void getVehicles_singleRepositoryQuery_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        List<Vehicle> vehicles = Arrays.asList(new Car("YMU-95C", entryDate),
+                new Motorcycle("YMU-96C", entryDate, 650));
+        when(vehicleRepository.getVehicles()).thenReturn(vehicles);
+        //Act
+        List<Vehicle> parkedVehicles = parkingService.getVehicles();
+        //Assert
+        assertEquals(vehicles, parkedVehicles);
+        verify(carRepository, never()).getCars();
+        verify(motorcycleRepository, never()).getMotorcycles();
+    }
+
+    @Test
+    public void projectRevenue_carAndMotorcycle_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        LocalDateTime exitDate = LocalDateTime
+                .of(2021, 5, 23, 18, 57, 0);
+        List<Vehicle> vehicles = Arrays.asList(new Car("YMU-95C", entryDate),
+                new Motorcycle("YMU-96C", entryDate, 650));
+        when(vehicleRepository.getVehicles()).thenReturn(vehicles);
+        //Act
+        RevenueProjection projection = parkingService.projectRevenue(exitDate);
+        //Assert
+        assertEquals(5000, projection.getCharge(0));
+        assertEquals(4500, projection.getCharge(1));
+        assertEquals(9500, projection.getTotal());
+        verify(carRepository, never()).deleteCars(anyList());
+        verify(motorcycleRepository, never()).deleteMotorcycles(anyList());
+    }
+
+    @Test
+    public void projectRevenue_parallelLot_matchesSequentialBills() {
+        //Arrange
+        LocalDateTime exitDate = LocalDateTime
+                .of(2021, 5, 30, 18, 0, 0);
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < ParkingService.PARALLEL_PROJECTION_THRESHOLD * 2; i++) {
+            LocalDateTime entryDate = exitDate.minusMinutes(i * 37L);
+            vehicles.add(i % 2 == 0 ? new Car("CAR-" + i, entryDate)
+                    : new Motorcycle("MOT-" + i, entryDate, i % 3 == 0 ? 650 : 125));
+        }
+        //Act
+        RevenueProjection projection = parkingService.projectRevenue(vehicles, exitDate);
+        //Assert
+        long total = 0;
+        for (int i = 0; i < vehicles.size(); i++) {
+            int bill = vehicles.get(i).calculateParkingCost(parkingService, exitDate);
+            assertEquals(bill, projection.getCharge(i));
+            total += bill;
+        }
+        assertEquals(total, projection.getTotal());
+    }
+
+    @Test
+    public void carParkingCost_storedTariff_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        LocalDateTime exitDate = LocalDateTime
+                .of(2021, 5, 23, 18, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        when(tariffRepository.getCurrentTariff()).thenReturn(new Tariff(3, Arrays.asList(
+                new TariffRate(VehicleType.CAR, new Rate(1200, 9000, 0), 9, 500),
+                new TariffRate(VehicleType.MOTORCYCLE, new Rate(600, 4500, 2500), 9, 500))));
+        //Act
+        int parkingCost = parkingService.carParkingCost(car, exitDate);
+        //Assert
+        assertEquals(6000, parkingCost);
+        assertEquals(3, parkingService.getRatePlan().getVersion());
+    }
+
+    @Test
+    public void updateTariff_newPrices_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 0);
+        LocalDateTime exitDate = LocalDateTime
+                .of(2021, 5, 23, 18, 57, 0);
+        Motorcycle motorcycle = new Motorcycle("YMU-96C", entryDate, 650);
+        int previousCost = parkingService.motorcycleParkingCost(motorcycle, exitDate);
+        //Act
+        int version = parkingService.updateTariff(Arrays.asList(
+                new TariffRate(VehicleType.CAR, new Rate(1000, 8000, 0), 9, 500),
+                new TariffRate(VehicleType.MOTORCYCLE, new Rate(500, 4000, 2000), 9, 700)));
+        int parkingCost = parkingService.motorcycleParkingCost(motorcycle, exitDate);
+        //Assert
+        assertEquals(4500, previousCost);
+        assertEquals(2500, parkingCost);
+        assertEquals(RatePlan.DEFAULT_VERSION + 1, version);
+        verify(tariffRepository).saveTariff(any(Tariff.class));
+    }
+
+    @Test
+    public void updateTariff_missingVehicleClass_isCorrect() {
+        //Arrange
+        List<TariffRate> rates = Arrays.asList(
+                new TariffRate(VehicleType.CAR, new Rate(1000, 8000, 0), 9, 500));
+        //Act
+        try {
+            parkingService.updateTariff(rates);
+            fail();
+        } catch (InvalidTariffException e) {
+            //Assert
+            assertEquals(INVALID_TARIFF, e.getMessage());
+            verify(tariffRepository, never()).saveTariff(any(Tariff.class));
+        }
+    }
+
+    @Test
+    public void saveCar_blacklistedLicensePlate_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        parkingService.updateBlacklist(Arrays.asList("YMU-95C", "KLD-11A"));
+        //Act
+        try {
+            parkingService.saveCar(car, 2);
+            fail();
+        } catch (BlacklistedVehicleException e) {
+            //Assert
+            assertEquals(BLACKLISTED_VEHICLE, e.getMessage());
+            verify(carRepository, never()).saveCar(car);
+        }
+    }
+
+    @Test
+    public void validateLicensePlate_permitOnASunday_isCorrect() {
+        //Arrange
+        String licensePlate = "AMU-95C";
+        parkingService.updatePermits(Arrays.asList(licensePlate));
+        //Act
+        boolean isRestricted = parkingService.validateLicensePlate(licensePlate, sunday);
+        //Assert
+        assertFalse(isRestricted);
+    }
+
+    @Test
+    public void deleteCar_licensePlateReleased_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        parkingService.saveCar(car, 2);
+        //Act
+        parkingService.deleteCar(car);
+        parkingService.saveCar(car, 2);
+        //Assert
+        assertTrue(parkingService.isParked("YMU-95C"));
+        verify(carRepository, never()).existsCarByLicensePlate("YMU-95C");
+    }
+
+    @Test
+    public void deleteCar_deletedTwice_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 13, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        parkingService.saveCar(car, 2);
+        int freeSpaces = parkingService.getFreeSpaces(Parking.DEFAULT_LOT_ID, VehicleType.CAR);
+        //Act
+        parkingService.deleteCar(car);
+        parkingService.deleteCar(car);
+        //Assert
+        assertEquals(freeSpaces + 1, parkingService.getFreeSpaces(Parking.DEFAULT_LOT_ID, VehicleType.CAR));
+        verify(carRepository, times(1)).deleteCar(car);
+    }
+
+    @Test
+    public void saveCar_lastDigitRestrictedAtEntryHour_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 25, 7, 30, 0);
+        Car car = new Car("YMU-955", entryDate);
+        parkingService.updateAccessRules(Collections.singletonList(new AccessRule("",
+                Collections.singleton(5), EnumSet.of(DayOfWeek.TUESDAY), 6, 9)));
+        //Act
+        try {
+            parkingService.saveCar(car, 2);
+            fail();
+        } catch (RestrictedAccessByDayException e) {
+            //Assert
+            assertEquals(RESTRICTED_ACCESS_BY_DAY, e.getMessage());
+            assertFalse(parkingService.validateLicensePlate("AMU-95C", sunday));
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.model.PlateBloomFilter;
+import com.example.domain.parking.model.PlateList;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PlateListUnitTest {
+
+    private static final int LISTED_PLATES = 20000;
+
+    @Test
+    public void contains_largeList_isCorrect() {
+        //Arrange
+        List<String> licensePlates = new ArrayList<>();
+        for (int i = 0; i < LISTED_PLATES; i++) {
+            licensePlates.add("BLK-" + i);
+        }
+        //Act
+        PlateList plateList = new PlateList(licensePlates);
+        //Assert
+        for (String licensePlate : licensePlates) {
+            assertTrue(plateList.contains(licensePlate));
+        }
+        for (int i = 0; i < LISTED_PLATES; i++) {
+            assertFalse(plateList.contains("YMU-" + i));
+        }
+    }
+
+    @Test
+    public void mightContain_falsePositiveRate_isCorrect() {
+        //Arrange
+        PlateBloomFilter bloomFilter = new PlateBloomFilter(LISTED_PLATES, 0.01);
+        for (int i = 0; i < LISTED_PLATES; i++) {
+            bloomFilter.put("BLK-" + i);
+        }
+        int falsePositives = 0;
+        //Act
+        for (int i = 0; i < LISTED_PLATES; i++) {
+            assertTrue(bloomFilter.mightContain("BLK-" + i));
+            if (bloomFilter.mightContain("YMU-" + i)) {
+                falsePositives++;
+            }
+        }
+        //Assert
+        assertTrue("false positives: " + falsePositives, falsePositives < LISTED_PLATES * 0.02);
+    }
+
+    @Test
+    public void contains_emptyList_isCorrect() {
+        //Act
+        boolean contains = PlateList.EMPTY.contains("YMU-95C");
+        //Assert
+        assertFalse(contains);
+        assertEquals(0, PlateList.EMPTY.size());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.model.Rate;
+import com.example.domain.parking.model.RatePlan;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+
+public class RatePlanUnitTest {
+
+    private static final int MAX_EQUIVALENCE_HOURS = 10000;
+    private static final int HOURS_IN_A_DAY = 24;
+
+    private Parking parking;
+    private RatePlan ratePlan;
+    private ParkingService parkingService;
+    private long entryMillis;
+
+    @Before
+    public void initElements() {
+        parking = new Parking();
+        ratePlan = RatePlan.from(parking);
+        parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class),
+                Mockito.mock(TicketRepository.class));
+        entryMillis = EpochMillis.of(LocalDateTime.of(2021, 5, 23, 13, 57, 0));
+    }
+
+    @Test
+    public void parkingHours_startedHour_isCorrect() {
+        //Arrange
+        long exitMillis = entryMillis + 5 * 3600000L + 1;
+        //Act
+        long parkingHours = RatePlan.parkingHours(entryMillis, exitMillis);
+        //Assert
+        assertEquals(6, parkingHours);
+    }
+
+    @Test
+    public void parkingCost_car30Hours_isCorrect() {
+        //Arrange
+        long exitMillis = entryMillis + 30 * 3600000L;
+        //Act
+        long parkingCost = ratePlan.parkingCost(entryMillis, exitMillis, VehicleType.CAR, 0);
+        //Assert
+        assertEquals(14000, parkingCost);
+    }
+
+    @Test
+    public void parkingCost_motorcycle24HoursAnd650CylinderCapacity_isCorrect() {
+        //Arrange
+        long exitMillis = entryMillis + 24 * 3600000L;
+        //Act
+        long parkingCost = ratePlan.parkingCost(entryMillis, exitMillis, VehicleType.MOTORCYCLE, 650);
+        //Assert
+        assertEquals(6000, parkingCost);
+    }
+
+    @Test
+    public void parkingCost_everyHourUpTo10000_matchesBranchyCost() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime.of(2021, 5, 23, 13, 57, 0);
+        Car car = new Car("YMU-95C", entryDate);
+        Motorcycle smallMotorcycle = new Motorcycle("YMU-96C", entryDate, 125);
+        Motorcycle largeMotorcycle = new Motorcycle("YMU-97C", entryDate, 650);
+        Rate carRate = parking.getCarRate();
+        Rate motorcycleRate = parking.getMotorcycleRate();
+        long carEntryMillis = car.getEntryMillis();
+        for (int hours = 0; hours <= MAX_EQUIVALENCE_HOURS; hours++) {
+            LocalDateTime exitDate = entryDate.plusHours(hours);
+            long exitMillis = carEntryMillis + hours * 3600000L;
+            //Act
+            long carCost = ratePlan.parkingCost(carEntryMillis, exitMillis, VehicleType.CAR, 0);
+            long smallMotorcycleCost = ratePlan.parkingCost(carEntryMillis, exitMillis,
+                    VehicleType.MOTORCYCLE, 125);
+            long largeMotorcycleCost = ratePlan.parkingCost(carEntryMillis, exitMillis,
+                    VehicleType.MOTORCYCLE, 650);
+            //Assert
+            assertEquals("car, " + hours + " hours",
+                    branchyCost(car, exitDate, carRate), carCost);
+            assertEquals("motorcycle, " + hours + " hours",
+                    branchyCost(smallMotorcycle, exitDate, motorcycleRate),
+                    smallMotorcycleCost);
+            assertEquals("large motorcycle, " + hours + " hours",
+                    branchyCost(largeMotorcycle, exitDate, motorcycleRate)
+                            + motorcycleRate.getSurplus(), largeMotorcycleCost);
+        }
+    }
+
+    @Test
+    public void costForHours_tableBoundary_matchesClosedForm() {
+        for (int hours = RatePlan.TABLE_HOURS - 2; hours <= RatePlan.TABLE_HOURS + 2; hours++) {
+            //Act
+            long carCost = ratePlan.costForHours(hours, VehicleType.CAR);
+            //Assert
+            assertEquals(ratePlan.closedFormCost(hours, VehicleType.CAR), carCost);
+        }
+    }
+
+    private int branchyCost(Vehicle vehicle, LocalDateTime exitDate, Rate vehicleRate) {
+        int hourLimit = parking.getHourLimit();
+        int priceHour = vehicleRate.getPriceHour();
+        int priceDay = vehicleRate.getPriceDay();
+        int parkingTime = parkingService.getParkingTime(vehicle.getEntryDate(), exitDate);
+        if (parkingTime < hourLimit) {
+            return parkingTime * priceHour;
+        }
+        int days = parkingTime / HOURS_IN_A_DAY;
+        int hours = parkingTime % HOURS_IN_A_DAY;
+        if (hours >= hourLimit) {
+            return (days + 1) * priceDay;
+        }
+        return (days * priceDay) + (hours * priceHour);
+    }
+}
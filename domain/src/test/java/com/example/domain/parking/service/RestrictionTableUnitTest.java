@@ -0,0 +1,108 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.exception.InvalidAccessRuleException;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.rule.AccessRule;
+import com.example.domain.parking.rule.RestrictionTable;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RestrictionTableUnitTest {
+
+    private static final String INVALID_ACCESS_RULE = "The access rule must cover at least one day, "
+            + "a time window within the day and digits from 0 to 9.";
+
+    @Test
+    public void isRestricted_builtInRule_isCorrect() {
+        //Arrange
+        RestrictionTable restrictionTable = RestrictionTable.from(new Parking());
+        //Act
+        boolean sunday = restrictionTable.isRestricted("AMU-95C", 7, 10);
+        boolean monday = restrictionTable.isRestricted("AMU-95C", 1);
+        boolean tuesday = restrictionTable.isRestricted("AMU-95C", 2);
+        boolean otherLetter = restrictionTable.isRestricted("YMU-95C", 7, 10);
+        //Assert
+        assertTrue(sunday);
+        assertTrue(monday);
+        assertFalse(tuesday);
+        assertFalse(otherLetter);
+    }
+
+    @Test
+    public void isRestricted_lastDigitAndTimeWindow_isCorrect() {
+        //Arrange
+        AccessRule peakHours = new AccessRule("", new HashSet<>(Arrays.asList(1, 2)),
+                EnumSet.of(DayOfWeek.WEDNESDAY), 6, 9);
+        RestrictionTable restrictionTable = RestrictionTable.compile(Collections.singletonList(peakHours));
+        //Act
+        boolean duringPeak = restrictionTable.isRestricted("KLD-112", 3, 6);
+        boolean afterPeak = restrictionTable.isRestricted("KLD-112", 3, 9);
+        boolean otherDigit = restrictionTable.isRestricted("KLD-113", 3, 7);
+        boolean anyHour = restrictionTable.isRestricted("KLD-112", 3);
+        //Assert
+        assertTrue(duringPeak);
+        assertFalse(afterPeak);
+        assertFalse(otherDigit);
+        assertTrue(anyHour);
+    }
+
+    @Test
+    public void isRestricted_overlappingPrefixes_isCorrect() {
+        //Arrange
+        List<AccessRule> accessRules = Arrays.asList(
+                AccessRule.allDay("A", EnumSet.of(DayOfWeek.MONDAY)),
+                AccessRule.allDay("AB", EnumSet.of(DayOfWeek.FRIDAY)));
+        RestrictionTable restrictionTable = RestrictionTable.compile(accessRules);
+        //Act
+        boolean longPrefixOnMonday = restrictionTable.isRestricted("ABC-123", 1, 12);
+        boolean longPrefixOnFriday = restrictionTable.isRestricted("ABC-123", 5, 12);
+        boolean shortPrefixOnFriday = restrictionTable.isRestricted("ACC-123", 5, 12);
+        //Assert
+        assertTrue(longPrefixOnMonday);
+        assertTrue(longPrefixOnFriday);
+        assertFalse(shortPrefixOnFriday);
+    }
+
+    @Test
+    public void compile_manyRules_matchesEveryRule() {
+        //Arrange
+        List<AccessRule> accessRules = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            accessRules.add(new AccessRule("P" + i, Collections.singleton(i % 10),
+                    EnumSet.of(DayOfWeek.of(i % 7 + 1)), i % 24, i % 24 + 1));
+        }
+        //Act
+        RestrictionTable restrictionTable = RestrictionTable.compile(accessRules);
+        //Assert
+        for (int i = 0; i < 500; i++) {
+            String licensePlate = "P" + i + "-X" + (i % 10);
+            assertTrue(restrictionTable.isRestricted(licensePlate, i % 7 + 1, i % 24));
+            assertFalse(restrictionTable.isRestricted(licensePlate, i % 7 + 1, (i + 1) % 24));
+        }
+    }
+
+    @Test
+    public void accessRule_emptyTimeWindow_isCorrect() {
+        //Act
+        try {
+            new AccessRule("A", Collections.emptySet(), EnumSet.of(DayOfWeek.MONDAY), 9, 9);
+            fail();
+        } catch (InvalidAccessRuleException e) {
+            //Assert
+            assertEquals(INVALID_ACCESS_RULE, e.getMessage());
+        }
+    }
+}
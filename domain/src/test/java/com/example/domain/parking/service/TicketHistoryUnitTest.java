@@ -0,0 +1,323 @@
+package com.example.domain.parking.service;
+
+import com.example.domain.parking.exception.VehicleNotParkedException;
+import com.example.domain.parking.model.CurrentHourRollups;
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.RevenueRollupBuilder;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughTicketRepository;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TicketHistoryUnitTest {
+
+    private static final LocalDateTime ENTRY_DATE = LocalDateTime
+            .of(2021, 5, 23, 13, 57, 0);
+    private static final LocalDateTime EXIT_DATE = LocalDateTime
+            .of(2021, 5, 23, 18, 57, 0);
+
+    @Test
+    public void checkOutVehicles_ticketsArchived_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        CarRepository carRepository = Mockito.mock(CarRepository.class);
+        ParkingService parkingService = new ParkingService(carRepository,
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        Motorcycle motorcycle = new Motorcycle("YMU-96C", ENTRY_DATE, 650);
+        parkingService.saveCar(car, 2);
+        parkingService.saveMotorcycle(motorcycle, 2);
+        //Act
+        List<Ticket> tickets = parkingService.checkOutVehicles(Arrays.asList(car, motorcycle), EXIT_DATE);
+        //Assert
+        assertEquals(2, tickets.size());
+        assertEquals(5000, tickets.get(0).getCost());
+        assertEquals(4500, tickets.get(1).getCost());
+        assertEquals(1, ticketRepository.archiveCalls);
+        assertEquals(2, ticketRepository.tickets.size());
+        Ticket carTicket = ticketRepository.tickets.get(0);
+        assertEquals("YMU-95C", carTicket.getLicensePlate());
+        assertEquals(VehicleType.CAR, carTicket.getVehicleType());
+        assertEquals(Parking.DEFAULT_LOT_ID, carTicket.getLotId());
+        assertEquals(1, carTicket.getBay());
+        assertEquals(car.getEntryMillis(), carTicket.getEntryMillis());
+        assertEquals(5000, carTicket.getCost());
+        assertEquals(EXIT_DATE.toLocalDate().toEpochDay(), carTicket.getExitDay());
+        assertEquals(4500, ticketRepository.tickets.get(1).getCost());
+        assertFalse(parkingService.isParked("YMU-95C"));
+        assertTrue(parkingService.isBayFree(Parking.DEFAULT_LOT_ID, VehicleType.CAR, 1));
+        verify(carRepository, never()).deleteCars(anyList());
+    }
+
+    @Test
+    public void checkOutVehicle_checkedOutTwice_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        parkingService.saveCar(car, 2);
+        parkingService.checkOutVehicle(car, EXIT_DATE);
+        Car nextCar = new Car("YMU-96C", ENTRY_DATE);
+        parkingService.saveCar(nextCar, 2);
+        //Act
+        try {
+            parkingService.checkOutVehicle(car, EXIT_DATE);
+            fail();
+        } catch (VehicleNotParkedException e) {
+            //Assert
+            assertEquals(1, ticketRepository.tickets.size());
+            assertEquals(1, nextCar.getBay());
+            assertFalse(parkingService.isBayFree(Parking.DEFAULT_LOT_ID, VehicleType.CAR, 1));
+            assertEquals(new Parking().getMaxNumberOfCars() - 1,
+                    parkingService.getFreeSpaces(Parking.DEFAULT_LOT_ID, VehicleType.CAR));
+            assertTrue(parkingService.isParked("YMU-96C"));
+        }
+    }
+
+    @Test
+    public void archiveTickets_writeThrough_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkedVehicleStore parkedVehicleStore = new ParkedVehicleStore(Mockito.mock(VehicleRepository.class));
+        WriteThroughTicketRepository writeThroughTicketRepository =
+                new WriteThroughTicketRepository(ticketRepository, parkedVehicleStore);
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        parkedVehicleStore.putAll(Arrays.asList(car, new Car("YMU-96C", ENTRY_DATE)));
+        //Act
+        writeThroughTicketRepository.archiveTickets(Arrays.asList(new Ticket(car, EXIT_DATE, 5000)));
+        //Assert
+        assertEquals(1, ticketRepository.tickets.size());
+        List<Vehicle> vehicles = parkedVehicleStore.getVehicles();
+        assertEquals(1, vehicles.size());
+        assertEquals("YMU-96C", vehicles.get(0).getLicensePlate());
+        assertEquals(1, parkedVehicleStore.getNumberOfVehicles(Parking.DEFAULT_LOT_ID, VehicleType.CAR));
+    }
+
+    @Test
+    public void pruneTickets_oldestExitDate_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        ticketRepository.archiveTickets(Arrays.asList(
+                new Ticket(new Car("YMU-95C", ENTRY_DATE), EXIT_DATE, 5000),
+                new Ticket(new Car("YMU-96C", ENTRY_DATE), EXIT_DATE.plusDays(1), 8000)));
+        //Act
+        int prunedTickets = parkingService.pruneTickets(LocalDate.of(2021, 5, 24));
+        List<Ticket> tickets = parkingService.getTickets(LocalDate.of(2021, 5, 1), LocalDate.of(2021, 5, 31));
+        //Assert
+        assertEquals(1, prunedTickets);
+        assertEquals(1, tickets.size());
+        assertEquals("YMU-96C", tickets.get(0).getLicensePlate());
+    }
+
+    @Test
+    public void getCurrentHourRollups_storedAndCheckedOut_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        ticketRepository.archiveTickets(Arrays.asList(
+                new Ticket(new Car("YMU-94C", ENTRY_DATE), EXIT_DATE.minusMinutes(30), 5000)));
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        Motorcycle motorcycle = new Motorcycle("YMU-96C", ENTRY_DATE, 650);
+        parkingService.saveCar(car, 2);
+        parkingService.saveMotorcycle(motorcycle, 2);
+        //Act
+        parkingService.checkOutVehicles(Arrays.asList(car, motorcycle), EXIT_DATE);
+        List<RevenueRollup> rollups = parkingService.getCurrentHourRollups(EXIT_DATE.plusMinutes(2));
+        //Assert
+        assertEquals(1, ticketRepository.hourlyRollupCalls);
+        assertEquals(VehicleType.COUNT, rollups.size());
+        RevenueRollup carRollup = rollups.get(VehicleType.CAR);
+        assertEquals(2, carRollup.getTickets());
+        assertEquals(10000, carRollup.getRevenue());
+        assertEquals(Duration.ofMinutes(285).toMillis(), carRollup.getAverageStayMillis());
+        assertEquals(1, rollups.get(VehicleType.MOTORCYCLE).getTickets());
+        assertEquals(4500, rollups.get(VehicleType.MOTORCYCLE).getRevenue());
+    }
+
+    @Test
+    public void getCurrentHourRollups_earlierThanTracked_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        ticketRepository.archiveTickets(Arrays.asList(
+                new Ticket(new Car("YMU-94C", ENTRY_DATE), EXIT_DATE, 5000)));
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        parkingService.saveCar(car, 2);
+        parkingService.checkOutVehicles(Arrays.asList(car), EXIT_DATE.plusHours(2));
+        //Act
+        List<RevenueRollup> rollups = parkingService.getCurrentHourRollups(EXIT_DATE);
+        //Assert
+        assertEquals(VehicleType.COUNT, rollups.size());
+        RevenueRollup carRollup = rollups.get(VehicleType.CAR);
+        assertEquals(RevenueRollup.exitHourOf(EpochMillis.of(EXIT_DATE)), carRollup.getBucket());
+        assertEquals(1, carRollup.getTickets());
+        assertEquals(5000, carRollup.getRevenue());
+        assertEquals(0, rollups.get(VehicleType.MOTORCYCLE).getTickets());
+    }
+
+    @Test
+    public void add_invalidatedAfterArchive_isCorrect() {
+        //Arrange
+        List<Ticket> storedTickets = new ArrayList<>();
+        CurrentHourRollups currentHourRollups = new CurrentHourRollups(hour -> RevenueRollup.hourly(storedTickets));
+        Ticket ticket = new Ticket(new Car("YMU-95C", ENTRY_DATE), EXIT_DATE, 5000);
+        long exitHour = RevenueRollup.exitHourOf(ticket.getExitMillis());
+        long trackedEpoch = currentHourRollups.track(exitHour);
+        storedTickets.add(ticket);
+        //Act
+        currentHourRollups.invalidate();
+        currentHourRollups.get(exitHour);
+        currentHourRollups.add(Arrays.asList(ticket), trackedEpoch);
+        List<RevenueRollup> rollups = currentHourRollups.get(exitHour);
+        //Assert
+        assertEquals(1, rollups.get(VehicleType.CAR).getTickets());
+        assertEquals(5000, rollups.get(VehicleType.CAR).getRevenue());
+    }
+
+    @Test
+    public void getCurrentHourRollups_rebuilt_isCorrect() {
+        //Arrange
+        RecordingTicketRepository ticketRepository = new RecordingTicketRepository();
+        ParkingService parkingService = new ParkingService(Mockito.mock(CarRepository.class),
+                Mockito.mock(MotorcycleRepository.class), Mockito.mock(VehicleRepository.class),
+                Mockito.mock(TariffRepository.class), Mockito.mock(ParkingLotRepository.class), ticketRepository);
+        parkingService.getCurrentHourRollups(EXIT_DATE);
+        ticketRepository.archiveTickets(Arrays.asList(
+                new Ticket(new Car("YMU-95C", ENTRY_DATE), EXIT_DATE, 5000)));
+        //Act
+        parkingService.rebuildRollups();
+        List<RevenueRollup> rollups = parkingService.getCurrentHourRollups(EXIT_DATE);
+        //Assert
+        assertEquals(1, ticketRepository.rebuildRollupsCalls);
+        assertEquals(2, ticketRepository.hourlyRollupCalls);
+        assertEquals(1, rollups.get(VehicleType.CAR).getTickets());
+    }
+
+    @Test
+    public void revenueRollupBuilder_ticketsInExitOrder_isCorrect() {
+        //Arrange
+        List<RevenueRollup> hourlyRollups = new ArrayList<>();
+        List<RevenueRollup> dailyRollups = new ArrayList<>();
+        RevenueRollupBuilder revenueRollupBuilder = new RevenueRollupBuilder(hourlyRollups::add, dailyRollups::add);
+        Car car = new Car("YMU-95C", ENTRY_DATE);
+        Motorcycle motorcycle = new Motorcycle("YMU-96C", ENTRY_DATE, 650);
+        //Act
+        revenueRollupBuilder.add(new Ticket(car, EXIT_DATE.minusMinutes(47), 5000));
+        revenueRollupBuilder.add(new Ticket(motorcycle, EXIT_DATE.minusMinutes(37), 4500));
+        revenueRollupBuilder.add(new Ticket(car, EXIT_DATE, 5000));
+        revenueRollupBuilder.add(new Ticket(car, EXIT_DATE.plusHours(1), 6000));
+        revenueRollupBuilder.add(new Ticket(car, EXIT_DATE.plusDays(1), 8000));
+        revenueRollupBuilder.finish();
+        //Assert
+        assertEquals(4, hourlyRollups.size());
+        assertEquals(2, hourlyRollups.get(0).getTickets());
+        assertEquals(10000, hourlyRollups.get(0).getRevenue());
+        assertEquals(VehicleType.MOTORCYCLE, hourlyRollups.get(1).getVehicleType());
+        assertEquals(hourlyRollups.get(0).getBucket() + 1, hourlyRollups.get(2).getBucket());
+        assertEquals(3, dailyRollups.size());
+        assertEquals(3, dailyRollups.get(0).getTickets());
+        assertEquals(16000, dailyRollups.get(0).getRevenue());
+        assertEquals(EXIT_DATE.toLocalDate().toEpochDay(), dailyRollups.get(0).getBucket());
+        assertEquals(VehicleType.MOTORCYCLE, dailyRollups.get(1).getVehicleType());
+        assertEquals(8000, dailyRollups.get(2).getRevenue());
+    }
+
+    private static class RecordingTicketRepository implements TicketRepository {
+
+        private final List<Ticket> tickets = new ArrayList<>();
+        private int archiveCalls;
+        private int hourlyRollupCalls;
+        private int rebuildRollupsCalls;
+
+        @Override
+        public void archiveTickets(List<Ticket> archivedTickets) {
+            archiveCalls++;
+            tickets.addAll(archivedTickets);
+        }
+
+        @Override
+        public List<Ticket> getTickets(long fromExitDay, long toExitDay) {
+            List<Ticket> dayTickets = new ArrayList<>();
+            for (Ticket ticket : tickets) {
+                if (ticket.getExitDay() >= fromExitDay && ticket.getExitDay() <= toExitDay) {
+                    dayTickets.add(ticket);
+                }
+            }
+            return dayTickets;
+        }
+
+        @Override
+        public int pruneTickets(long beforeExitDay) {
+            int size = tickets.size();
+            tickets.removeIf(ticket -> ticket.getExitDay() < beforeExitDay);
+            return size - tickets.size();
+        }
+
+        @Override
+        public List<RevenueRollup> getHourlyRollups(long fromExitHour, long toExitHour) {
+            hourlyRollupCalls++;
+            List<Ticket> hourTickets = new ArrayList<>();
+            for (Ticket ticket : tickets) {
+                long exitHour = RevenueRollup.exitHourOf(ticket.getExitMillis());
+                if (exitHour >= fromExitHour && exitHour <= toExitHour) {
+                    hourTickets.add(ticket);
+                }
+            }
+            List<RevenueRollup> rollups = RevenueRollup.hourly(hourTickets);
+            rollups.sort(Comparator.comparingLong(RevenueRollup::getBucket));
+            return rollups;
+        }
+
+        @Override
+        public List<RevenueRollup> getDailyRollups(long fromExitDay, long toExitDay) {
+            List<RevenueRollup> rollups = RevenueRollup.daily(getTickets(fromExitDay, toExitDay));
+            rollups.sort(Comparator.comparingLong(RevenueRollup::getBucket));
+            return rollups;
+        }
+
+        @Override
+        public void rebuildRollups() {
+            rebuildRollupsCalls++;
+        }
+    }
+}
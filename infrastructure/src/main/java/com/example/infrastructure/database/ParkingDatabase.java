@@ -5,18 +5,36 @@ import android.content.Context;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.TypeConverters;
+
+import com.example.infrastructure.database.converter.DateConverter;
+import com.example.infrastructure.journal.database.dao.JournalDao;
+import com.example.infrastructure.journal.database.entity.JournalCheckpointEntity;
+import com.example.infrastructure.lot.database.dao.ParkingLotDao;
+import com.example.infrastructure.lot.database.entity.LotCapacityEntity;
+import com.example.infrastructure.tariff.database.dao.TariffDao;
+import com.example.infrastructure.tariff.database.entity.TariffEntity;
+import com.example.infrastructure.ticket.database.dao.TicketDao;
+import com.example.infrastructure.ticket.database.entity.RevenueRollupEntity;
+import com.example.infrastructure.ticket.database.entity.TicketEntity;
+import com.example.infrastructure.vehicle.database.dao.VehicleDao;
+import com.example.infrastructure.vehicle.database.entity.VehicleEntity;
+
+@Database(entities = {VehicleEntity.class, TariffEntity.class, JournalCheckpointEntity.class,
+        LotCapacityEntity.class, TicketEntity.class, RevenueRollupEntity.class}, version = 11,
+        exportSchema = false)
+@TypeConverters(DateConverter.class)
+public abstract class ParkingDatabase extends RoomDatabase {
 
-import com.example.infrastructure.car.database.dao.CarDao;
-import com.example.infrastructure.motorcycle.database.dao.MotorcycleDao;
-import com.example.infrastructure.car.database.entity.CarEntity;
-import com.example.infrastructure.motorcycle.database.entity.MotorcycleEntity;
+    public abstract VehicleDao vehicleDao();
 
-@Database(entities = {CarEntity.class, MotorcycleEntity.class}, version = 1, exportSchema = false)
-public abstract class ParkingDatabase extends RoomDatabase {
+    public abstract TariffDao tariffDao();
+
+    public abstract JournalDao journalDao();
 
-    public abstract CarDao carDao();
+    public abstract ParkingLotDao parkingLotDao();
 
-    public abstract MotorcycleDao motorcycleDao();
+    public abstract TicketDao ticketDao();
 
     private static ParkingDatabase databaseInstance = null;
 
@@ -24,6 +42,11 @@ public abstract class ParkingDatabase extends RoomDatabase {
         if (databaseInstance == null) {
             databaseInstance = Room.
                     databaseBuilder(context, ParkingDatabase.class, "parking_database")
+                    .addMigrations(ParkingMigrations.MIGRATION_1_2, ParkingMigrations.MIGRATION_2_3,
+                            ParkingMigrations.MIGRATION_3_4, ParkingMigrations.MIGRATION_4_5,
+                            ParkingMigrations.MIGRATION_5_6, ParkingMigrations.MIGRATION_6_7,
+                            ParkingMigrations.MIGRATION_7_8, ParkingMigrations.MIGRATION_8_9,
+                            ParkingMigrations.MIGRATION_9_10, ParkingMigrations.MIGRATION_10_11)
                     .build();
         }
         return databaseInstance;
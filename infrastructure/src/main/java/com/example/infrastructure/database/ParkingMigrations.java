@@ -0,0 +1,192 @@
+package com.example.infrastructure.database;
+
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+
+public final class ParkingMigrations {
+
+    private static final String ISO_DATE_TO_EPOCH_MILLIS =
+            "CAST(ROUND((julianday(entryDate) - 2440587.5) * 86400000) AS INTEGER)";
+
+    private ParkingMigrations() {}
+
+    /**
+     * Adds a unique index on the license plate of both vehicle tables. Duplicated plates that
+     * may have been stored before are collapsed into their oldest row so the index can be built.
+     */
+    public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("DELETE FROM car WHERE id NOT IN "
+                    + "(SELECT MIN(id) FROM car GROUP BY licensePlate)");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_car_licensePlate` "
+                    + "ON `car` (`licensePlate`)");
+            database.execSQL("DELETE FROM motorcycle WHERE id NOT IN "
+                    + "(SELECT MIN(id) FROM motorcycle GROUP BY licensePlate)");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_motorcycle_licensePlate` "
+                    + "ON `motorcycle` (`licensePlate`)");
+        }
+    };
+
+    /**
+     * Converts the ISO-8601 entry dates of both vehicle tables into INTEGER milliseconds, as
+     * written by {@link com.example.infrastructure.database.converter.DateConverter}. SQLite
+     * cannot change a column type in place, so each table is rebuilt and its index recreated.
+     */
+    public static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `car_new` (`id` INTEGER PRIMARY KEY "
+                    + "AUTOINCREMENT NOT NULL, `licensePlate` TEXT, `entryDate` INTEGER)");
+            database.execSQL("INSERT INTO car_new (id, licensePlate, entryDate) "
+                    + "SELECT id, licensePlate, " + ISO_DATE_TO_EPOCH_MILLIS + " FROM car");
+            database.execSQL("DROP TABLE car");
+            database.execSQL("ALTER TABLE car_new RENAME TO car");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_car_licensePlate` "
+                    + "ON `car` (`licensePlate`)");
+
+            database.execSQL("CREATE TABLE IF NOT EXISTS `motorcycle_new` (`id` INTEGER PRIMARY KEY "
+                    + "AUTOINCREMENT NOT NULL, `licensePlate` TEXT, `entryDate` INTEGER, "
+                    + "`cylinderCapacity` INTEGER NOT NULL)");
+            database.execSQL("INSERT INTO motorcycle_new (id, licensePlate, entryDate, cylinderCapacity) "
+                    + "SELECT id, licensePlate, " + ISO_DATE_TO_EPOCH_MILLIS + ", cylinderCapacity "
+                    + "FROM motorcycle");
+            database.execSQL("DROP TABLE motorcycle");
+            database.execSQL("ALTER TABLE motorcycle_new RENAME TO motorcycle");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_motorcycle_licensePlate` "
+                    + "ON `motorcycle` (`licensePlate`)");
+        }
+    };
+
+    /**
+     * Indexes both vehicle tables by entry date so the paged listing can merge them in order
+     * without sorting every row for every page.
+     */
+    public static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_car_entryDate_licensePlate` "
+                    + "ON `car` (`entryDate`, `licensePlate`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_motorcycle_entryDate_licensePlate` "
+                    + "ON `motorcycle` (`entryDate`, `licensePlate`)");
+        }
+    };
+
+    /**
+     * Adds the versioned tariff table. It starts empty: until a tariff is stored the service bills
+     * with the built-in prices, exactly as before.
+     */
+    public static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `tariff` (`version` INTEGER NOT NULL, "
+                    + "`vehicleType` INTEGER NOT NULL, `priceHour` INTEGER NOT NULL, "
+                    + "`priceDay` INTEGER NOT NULL, `surplus` INTEGER NOT NULL, "
+                    + "`hourLimit` INTEGER NOT NULL, `cylinderCapacityLimit` INTEGER NOT NULL, "
+                    + "PRIMARY KEY(`version`, `vehicleType`))");
+        }
+    };
+
+    /**
+     * Adds the checkpoint of the check-in journal.
+     */
+    public static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `journal_checkpoint` (`id` INTEGER NOT NULL, "
+                    + "`segment` INTEGER NOT NULL, PRIMARY KEY(`id`))");
+        }
+    };
+
+    /**
+     * Merges the car and motorcycle tables into the single vehicle table, told apart by a type
+     * column. Cars carry no cylinder capacity, so theirs is left null. Row ids are renumbered,
+     * since the two tables numbered their rows independently, and a motorcycle whose plate is also
+     * parked as a car is dropped, as plates are now unique across every class.
+     */
+    public static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `vehicle` (`id` INTEGER PRIMARY KEY "
+                    + "AUTOINCREMENT NOT NULL, `vehicleType` INTEGER NOT NULL, `licensePlate` TEXT, "
+                    + "`entryDate` INTEGER, `cylinderCapacity` INTEGER)");
+            database.execSQL("INSERT INTO vehicle (vehicleType, licensePlate, entryDate, cylinderCapacity) "
+                    + "SELECT " + VehicleType.CAR + ", licensePlate, entryDate, NULL FROM car");
+            database.execSQL("INSERT INTO vehicle (vehicleType, licensePlate, entryDate, cylinderCapacity) "
+                    + "SELECT " + VehicleType.MOTORCYCLE + ", licensePlate, entryDate, cylinderCapacity "
+                    + "FROM motorcycle WHERE licensePlate NOT IN (SELECT licensePlate FROM car)");
+            database.execSQL("DROP TABLE car");
+            database.execSQL("DROP TABLE motorcycle");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_vehicle_licensePlate` "
+                    + "ON `vehicle` (`licensePlate`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_vehicle_entryDate_licensePlate` "
+                    + "ON `vehicle` (`entryDate`, `licensePlate`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_vehicle_vehicleType_entryDate_licensePlate` "
+                    + "ON `vehicle` (`vehicleType`, `entryDate`, `licensePlate`)");
+        }
+    };
+
+    /**
+     * Puts every parked vehicle in the default lot and adds the table of lot capacities. Until a
+     * lot is defined the table stays empty and the service falls back to the built-in lot.
+     */
+    public static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("ALTER TABLE vehicle ADD COLUMN `lotId` INTEGER NOT NULL DEFAULT 0");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_vehicle_lotId_vehicleType_entryDate_licensePlate` "
+                    + "ON `vehicle` (`lotId`, `vehicleType`, `entryDate`, `licensePlate`)");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `lot_capacity` (`lotId` INTEGER NOT NULL, "
+                    + "`vehicleType` INTEGER NOT NULL, `capacity` INTEGER NOT NULL, "
+                    + "PRIMARY KEY(`lotId`, `vehicleType`))");
+        }
+    };
+
+    /**
+     * Adds the bay of each vehicle. Vehicles already parked are left without one until they leave.
+     */
+    public static final Migration MIGRATION_8_9 = new Migration(8, 9) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("ALTER TABLE vehicle ADD COLUMN `bay` INTEGER");
+        }
+    };
+
+    /**
+     * Adds the ticket history that check-outs move vehicles into. Stays completed before it
+     * existed were not kept, so it starts empty.
+     */
+    public static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `ticket` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, "
+                    + "`exitDay` INTEGER NOT NULL, `vehicleType` INTEGER NOT NULL, `lotId` INTEGER NOT NULL, "
+                    + "`bay` INTEGER, `licensePlate` TEXT, `entryDate` INTEGER, `exitDate` INTEGER, "
+                    + "`cost` INTEGER NOT NULL)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ticket_exitDay_exitDate` "
+                    + "ON `ticket` (`exitDay`, `exitDate`)");
+        }
+    };
+
+    /**
+     * Adds the hourly and daily revenue rollups, computed from the tickets already in the history.
+     * Dates are stored in epoch milliseconds, so an hour is the exit date divided by 3600000.
+     */
+    public static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `revenue_rollup` (`granularity` INTEGER NOT NULL, "
+                    + "`bucket` INTEGER NOT NULL, `vehicleType` INTEGER NOT NULL, `tickets` INTEGER NOT NULL, "
+                    + "`revenue` INTEGER NOT NULL, `stayMillis` INTEGER NOT NULL, "
+                    + "PRIMARY KEY(`granularity`, `bucket`, `vehicleType`))");
+            database.execSQL("INSERT INTO `revenue_rollup` (`granularity`, `bucket`, `vehicleType`, `tickets`, "
+                    + "`revenue`, `stayMillis`) SELECT 0, exitDate / 3600000, vehicleType, COUNT(*), SUM(cost), "
+                    + "COALESCE(SUM(exitDate - entryDate), 0) FROM ticket GROUP BY exitDate / 3600000, vehicleType");
+            database.execSQL("INSERT INTO `revenue_rollup` (`granularity`, `bucket`, `vehicleType`, `tickets`, "
+                    + "`revenue`, `stayMillis`) SELECT 1, exitDay, vehicleType, COUNT(*), SUM(cost), "
+                    + "COALESCE(SUM(exitDate - entryDate), 0) FROM ticket GROUP BY exitDay, vehicleType");
+        }
+    };
+}
@@ -0,0 +1,40 @@
+package com.example.infrastructure.database.converter;
+
+import androidx.room.TypeConverter;
+
+import com.example.domain.parking.model.EpochMillis;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stores {@link LocalDateTime} values as INTEGER milliseconds, encoded by {@link EpochMillis}
+ * so the stored value has no dependency on the device time zone.
+ */
+public final class DateConverter {
+
+    private DateConverter() {}
+
+    @TypeConverter
+    public static Long fromLocalDateTime(LocalDateTime localDateTime) {
+        if (localDateTime == null) {
+            return null;
+        }
+        return toEpochMillis(localDateTime);
+    }
+
+    @TypeConverter
+    public static LocalDateTime toLocalDateTime(Long epochMillis) {
+        if (epochMillis == null) {
+            return null;
+        }
+        return fromEpochMillis(epochMillis);
+    }
+
+    public static long toEpochMillis(LocalDateTime localDateTime) {
+        return EpochMillis.of(localDateTime);
+    }
+
+    public static LocalDateTime fromEpochMillis(long epochMillis) {
+        return EpochMillis.toLocalDateTime(epochMillis);
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.infrastructure.journal;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteConstraintException;
+import android.util.Log;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Ticket;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.journal.database.entity.JournalCheckpointEntity;
+import com.example.infrastructure.journal.translate.JournalTranslate;
+import com.example.infrastructure.ticket.database.entity.RevenueRollupEntity;
+import com.example.infrastructure.ticket.translate.TicketTranslate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind log of check-ins and check-outs. An append returns once its segment is synced, and
+ * the flusher applies sealed segments to Room in order, each in one transaction with its
+ * checkpoint. A batch that can never be applied stops the journal, as the domain already counts
+ * its vehicles as parked.
+ */
+public final class CheckInJournal {
+
+    private static final String TAG = "CheckInJournal";
+    private static final String JOURNAL_DIRECTORY = "journal";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int MAX_APPLY_ATTEMPTS = 20;
+    private static final long FLUSH_INTERVAL_MILLIS = 50;
+    private static final int MAX_DELETE_BATCH_SIZE = 500;
+    private static CheckInJournal journalInstance = null;
+    private final File directory;
+    private final ParkingDatabase parkingDatabase;
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService syncer;
+    private final Object lock = new Object();
+    private final long firstSegment;
+    private boolean replayed;
+    private long segment;
+    private FileOutputStream segmentStream;
+    private DataOutputStream segmentOutput;
+    private List<JournalRecord> pending = new ArrayList<>();
+    private CompletableFuture<Void> segmentSynced;
+    private boolean sealScheduled;
+    private final ConcurrentLinkedDeque<SealedBatch> sealedBatches = new ConcurrentLinkedDeque<>();
+    private volatile RuntimeException failure;
+
+    CheckInJournal(File directory, ParkingDatabase parkingDatabase) {
+        this.directory = directory;
+        this.parkingDatabase = parkingDatabase;
+        long[] segments = listSegments();
+        this.firstSegment = segments.length == 0 ? 0 : segments[segments.length - 1] + 1;
+        this.segment = firstSegment;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parking-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.syncer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parking-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.execute(this::flushQuietly);
+        flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized CheckInJournal getInstance(Context context) {
+        if (journalInstance == null) {
+            File directory = new File(context.getFilesDir(), JOURNAL_DIRECTORY);
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new GlobalException("Error al crear el diario de ingresos", new IOException(directory.getPath()));
+            }
+            journalInstance = new CheckInJournal(directory, ParkingDatabase.getInstance(context));
+        }
+        return journalInstance;
+    }
+
+    public void append(JournalRecord record) {
+        append(Arrays.asList(record));
+    }
+
+    /**
+     * Blocks until the records are synced to disk.
+     */
+    public void append(List<JournalRecord> records) {
+        CompletableFuture<Void> synced;
+        synchronized (lock) {
+            checkRunning();
+            try {
+                if (segmentOutput == null) {
+                    segmentStream = new FileOutputStream(segmentFile(segment), true);
+                    segmentOutput = new DataOutputStream(new BufferedOutputStream(segmentStream));
+                    segmentSynced = new CompletableFuture<>();
+                }
+                for (JournalRecord record : records) {
+                    record.writeTo(segmentOutput);
+                }
+            } catch (IOException e) {
+                throw new GlobalException("Error al escribir en el diario de ingresos", e);
+            }
+            pending.addAll(records);
+            synced = segmentSynced;
+            if (!sealScheduled) {
+                sealScheduled = true;
+                syncer.execute(this::sealSegment);
+            }
+        }
+        try {
+            synced.get();
+        } catch (ExecutionException e) {
+            throw new GlobalException("Error al escribir en el diario de ingresos", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException("Error al escribir en el diario de ingresos", e);
+        }
+    }
+
+    /**
+     * Blocks until every acknowledged record is stored in Room.
+     */
+    public void flush() {
+        checkRunning();
+        try {
+            flusher.submit(() -> {
+                flushPending();
+                return null;
+            }).get();
+        } catch (RejectedExecutionException e) {
+            checkRunning();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new GlobalException("Error al guardar el diario de ingresos", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException("Error al guardar el diario de ingresos", e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flushPending();
+        } catch (Exception e) {
+            Log.e(TAG, "Journal flush failed, retrying on the next interval", e);
+        }
+    }
+
+    /**
+     * Runs on the flusher thread only.
+     */
+    private void flushPending() throws IOException {
+        if (!replayed) {
+            replay();
+            replayed = true;
+        }
+        SealedBatch batch;
+        while ((batch = sealedBatches.peek()) != null) {
+            applyOrStop(batch);
+            sealedBatches.poll();
+            retireSegmentsUpTo(batch.segment);
+        }
+    }
+
+    /**
+     * Syncs the open segment once for every record appended to it. Runs on the sync thread.
+     */
+    private void sealSegment() {
+        List<JournalRecord> batch;
+        long batchSegment;
+        FileOutputStream batchStream;
+        DataOutputStream batchOutput;
+        CompletableFuture<Void> batchSynced;
+        synchronized (lock) {
+            sealScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            batchSegment = segment;
+            batchStream = segmentStream;
+            batchOutput = segmentOutput;
+            batchSynced = segmentSynced;
+            pending = new ArrayList<>();
+            segment++;
+            segmentStream = null;
+            segmentOutput = null;
+            segmentSynced = null;
+        }
+        try {
+            try {
+                batchOutput.flush();
+                batchStream.getFD().sync();
+            } finally {
+                batchStream.close();
+            }
+        } catch (IOException e) {
+            if (!segmentFile(batchSegment).delete()) {
+                Log.w(TAG, "Could not delete unsynced journal segment " + batchSegment);
+            }
+            batchSynced.completeExceptionally(e);
+            return;
+        }
+        sealedBatches.add(new SealedBatch(batchSegment, batch));
+        batchSynced.complete(null);
+    }
+
+    /**
+     * Queues the segments of the previous run ahead of any batch of this run already sealed.
+     */
+    private void replay() throws IOException {
+        JournalCheckpointEntity checkpoint = parkingDatabase.journalDao().getCheckpoint();
+        long appliedSegment = checkpoint == null ? -1 : checkpoint.getSegment();
+        List<SealedBatch> unflushedBatches = new ArrayList<>();
+        for (long unflushedSegment : listSegments()) {
+            if (unflushedSegment > appliedSegment && unflushedSegment < firstSegment) {
+                unflushedBatches.add(new SealedBatch(unflushedSegment,
+                        JournalRecord.readSegment(segmentFile(unflushedSegment))));
+            }
+        }
+        if (unflushedBatches.isEmpty()) {
+            retireSegmentsUpTo(firstSegment - 1);
+        }
+        for (int i = unflushedBatches.size() - 1; i >= 0; i--) {
+            sealedBatches.addFirst(unflushedBatches.get(i));
+        }
+    }
+
+    private void applyOrStop(SealedBatch batch) {
+        try {
+            apply(batch.records, batch.segment);
+        } catch (RuntimeException e) {
+            batch.failedAttempts++;
+            if (!(e instanceof SQLiteConstraintException) && batch.failedAttempts < MAX_APPLY_ATTEMPTS) {
+                throw e;
+            }
+            failure = e;
+            flusher.shutdown();
+            Log.e(TAG, "Journal segment " + batch.segment + " cannot be applied, journal stopped", e);
+            throw e;
+        }
+    }
+
+    private void checkRunning() {
+        RuntimeException stoppedBy = failure;
+        if (stoppedBy != null) {
+            throw new GlobalException("Error al aplicar el diario de ingresos", stoppedBy);
+        }
+    }
+
+    /**
+     * Groups consecutive records of the same kind into one statement, keeping their order.
+     */
+    private void apply(List<JournalRecord> batch, long batchSegment) {
+        parkingDatabase.runInTransaction(() -> {
+            int start = 0;
+            while (start < batch.size()) {
+                JournalRecord first = batch.get(start);
+                int end = start + 1;
+                while (end < batch.size() && batch.get(end).getOperation() == first.getOperation()
+                        && (first.getOperation() == JournalRecord.SAVE
+                        || batch.get(end).getVehicleType() == first.getVehicleType())) {
+                    end++;
+                }
+                applyRun(first.getOperation(), first.getVehicleType(), batch.subList(start, end));
+                start = end;
+            }
+            JournalCheckpointEntity checkpoint = new JournalCheckpointEntity();
+            checkpoint.id = JournalCheckpointEntity.CHECKPOINT_ID;
+            checkpoint.setSegment(batchSegment);
+            parkingDatabase.journalDao().saveCheckpoint(checkpoint);
+        });
+    }
+
+    private void applyRun(byte operation, int vehicleType, List<JournalRecord> records) {
+        if (operation == JournalRecord.SAVE) {
+            parkingDatabase.vehicleDao().saveVehiclesIfAbsent(
+                    JournalTranslate.translateVehicleListFromJournalToDB(records));
+            return;
+        }
+        if (operation == JournalRecord.CHECK_OUT) {
+            List<Ticket> tickets = JournalTranslate.translateTicketListFromJournal(records);
+            parkingDatabase.ticketDao().saveTickets(TicketTranslate.translateTicketListFromDomainToDB(tickets));
+            addToRollups(RevenueRollupEntity.HOURLY, RevenueRollup.hourly(tickets));
+            addToRollups(RevenueRollupEntity.DAILY, RevenueRollup.daily(tickets));
+        }
+        List<String> licensePlates = JournalTranslate.translateLicensePlatesFromJournal(records);
+        for (int start = 0; start < licensePlates.size(); start += MAX_DELETE_BATCH_SIZE) {
+            parkingDatabase.vehicleDao().deleteVehicles(licensePlates.subList(start,
+                    Math.min(start + MAX_DELETE_BATCH_SIZE, licensePlates.size())), vehicleType);
+        }
+    }
+
+    private void addToRollups(int granularity, List<RevenueRollup> rollups) {
+        List<RevenueRollupEntity> newRollupEntityList = new ArrayList<>();
+        for (RevenueRollup rollup : rollups) {
+            if (parkingDatabase.ticketDao().addToRollup(granularity, rollup.getBucket(), rollup.getVehicleType(),
+                    rollup.getTickets(), rollup.getRevenue(), rollup.getStayMillis()) == 0) {
+                newRollupEntityList.add(TicketTranslate.translateRollupFromDomainToDB(granularity, rollup));
+            }
+        }
+        if (!newRollupEntityList.isEmpty()) {
+            parkingDatabase.ticketDao().saveRollups(newRollupEntityList);
+        }
+    }
+
+    private static final class SealedBatch {
+
+        private final long segment;
+        private final List<JournalRecord> records;
+        private int failedAttempts;
+
+        private SealedBatch(long segment, List<JournalRecord> records) {
+            this.segment = segment;
+            this.records = records;
+        }
+    }
+
+    private long[] listSegments() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return new long[0];
+        }
+        long[] segments = new long[files.length];
+        int count = 0;
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                segments[count++] = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                Log.w(TAG, "Ignoring unexpected journal file " + name);
+            }
+        }
+        long[] sortedSegments = Arrays.copyOf(segments, count);
+        Arrays.sort(sortedSegments);
+        return sortedSegments;
+    }
+
+    /**
+     * Creates the next segment file first, so the next run never reuses a number the checkpoint
+     * already covers.
+     */
+    private void retireSegmentsUpTo(long lastSegment) throws IOException {
+        File nextSegment = segmentFile(lastSegment + 1);
+        if (!nextSegment.exists() && !nextSegment.createNewFile() && !nextSegment.exists()) {
+            throw new IOException("Could not create journal segment " + nextSegment.getName());
+        }
+        for (long flushedSegment : listSegments()) {
+            if (flushedSegment <= lastSegment && !segmentFile(flushedSegment).delete()) {
+                Log.w(TAG, "Could not delete journal segment " + flushedSegment);
+            }
+        }
+    }
+
+    private File segmentFile(long segmentNumber) {
+        return new File(directory, segmentNumber + SEGMENT_SUFFIX);
+    }
+}
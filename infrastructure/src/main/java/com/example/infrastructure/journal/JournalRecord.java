@@ -0,0 +1,185 @@
+package com.example.infrastructure.journal;
+
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * One check-in or check-out waiting in the {@link CheckInJournal} to be written to Room. A
+ * {@link #CHECK_OUT} record is a delete that also carries the exit date and the bill of the
+ * ticket it leaves behind. On disk each record is preceded by its length and CRC-32.
+ */
+public final class JournalRecord {
+
+    public static final byte SAVE = 0;
+    public static final byte DELETE = 1;
+    public static final byte CHECK_OUT = 2;
+    private static final int MAX_RECORD_LENGTH = 1 << 17;
+    private final byte operation;
+    private final int vehicleType;
+    private final String licensePlate;
+    private final long entryMillis;
+    private final int cylinderCapacity;
+    private final int lotId;
+    private final int bay;
+    private final long exitMillis;
+    private final int cost;
+
+    JournalRecord(byte operation, int vehicleType, String licensePlate, long entryMillis, int cylinderCapacity,
+                  int lotId, int bay) {
+        this(operation, vehicleType, licensePlate, entryMillis, cylinderCapacity, lotId, bay, 0, 0);
+    }
+
+    JournalRecord(byte operation, int vehicleType, String licensePlate, long entryMillis, int cylinderCapacity,
+                  int lotId, int bay, long exitMillis, int cost) {
+        this.operation = operation;
+        this.vehicleType = vehicleType;
+        this.licensePlate = licensePlate;
+        this.entryMillis = entryMillis;
+        this.cylinderCapacity = cylinderCapacity;
+        this.lotId = lotId;
+        this.bay = bay;
+        this.exitMillis = exitMillis;
+        this.cost = cost;
+    }
+
+    public static JournalRecord save(Vehicle vehicle) {
+        return new JournalRecord(SAVE, vehicle.getType(), vehicle.getLicensePlate(), vehicle.getEntryMillis(),
+                vehicle.getCylinderCapacity(), vehicle.getLotId(), vehicle.getBay());
+    }
+
+    public static JournalRecord delete(Vehicle vehicle) {
+        return new JournalRecord(DELETE, vehicle.getType(), vehicle.getLicensePlate(), vehicle.getEntryMillis(),
+                vehicle.getCylinderCapacity(), vehicle.getLotId(), vehicle.getBay());
+    }
+
+    public static JournalRecord checkOut(Ticket ticket) {
+        return new JournalRecord(CHECK_OUT, ticket.getVehicleType(), ticket.getLicensePlate(),
+                ticket.getEntryMillis(), 0, ticket.getLotId(), ticket.getBay(), ticket.getExitMillis(),
+                ticket.getCost());
+    }
+
+    public byte getOperation() {
+        return operation;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public long getEntryMillis() {
+        return entryMillis;
+    }
+
+    public int getCylinderCapacity() {
+        return cylinderCapacity;
+    }
+
+    public int getLotId() {
+        return lotId;
+    }
+
+    public int getBay() {
+        return bay;
+    }
+
+    public long getExitMillis() {
+        return exitMillis;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    void writeTo(DataOutputStream output) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream fields = new DataOutputStream(payload);
+        fields.writeByte(operation);
+        fields.writeByte(vehicleType);
+        fields.writeUTF(licensePlate);
+        fields.writeLong(entryMillis);
+        fields.writeInt(cylinderCapacity);
+        fields.writeInt(lotId);
+        fields.writeInt(bay);
+        if (operation == CHECK_OUT) {
+            fields.writeLong(exitMillis);
+            fields.writeInt(cost);
+        }
+        byte[] bytes = payload.toByteArray();
+        output.writeInt(bytes.length);
+        output.writeInt(checksum(bytes));
+        output.write(bytes);
+    }
+
+    /**
+     * Reads every valid record of a journal segment. The first record that is cut short or fails
+     * its checksum, as one being written when the process died, ends the segment.
+     */
+    static List<JournalRecord> readSegment(File segment) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(segment)))) {
+            while (true) {
+                byte[] bytes;
+                try {
+                    int length = input.readInt();
+                    int checksum = input.readInt();
+                    if (length <= 0 || length > MAX_RECORD_LENGTH) {
+                        return records;
+                    }
+                    bytes = new byte[length];
+                    input.readFully(bytes);
+                    if (checksum(bytes) != checksum) {
+                        return records;
+                    }
+                } catch (EOFException e) {
+                    return records;
+                }
+                try {
+                    records.add(readFields(new DataInputStream(new ByteArrayInputStream(bytes))));
+                } catch (IOException e) {
+                    return records;
+                }
+            }
+        }
+    }
+
+    private static JournalRecord readFields(DataInputStream input) throws IOException {
+        byte operation = input.readByte();
+        int vehicleType = input.readByte();
+        String licensePlate = input.readUTF();
+        long entryMillis = input.readLong();
+        int cylinderCapacity = input.readInt();
+        int lotId = input.readInt();
+        int bay = input.readInt();
+        long exitMillis = 0;
+        int cost = 0;
+        if (operation == CHECK_OUT) {
+            exitMillis = input.readLong();
+            cost = input.readInt();
+        }
+        return new JournalRecord(operation, vehicleType, licensePlate, entryMillis, cylinderCapacity, lotId, bay,
+                exitMillis, cost);
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+}
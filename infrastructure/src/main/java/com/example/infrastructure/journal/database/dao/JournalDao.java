@@ -0,0 +1,19 @@
+package com.example.infrastructure.journal.database.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.infrastructure.journal.database.entity.JournalCheckpointEntity;
+
+@Dao
+public interface JournalDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void saveCheckpoint(JournalCheckpointEntity journalCheckpointEntity);
+
+    @Query("SELECT * FROM journal_checkpoint WHERE id = " + JournalCheckpointEntity.CHECKPOINT_ID)
+    JournalCheckpointEntity getCheckpoint();
+
+}
@@ -0,0 +1,26 @@
+package com.example.infrastructure.journal.database.entity;
+
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Last journal segment written to the database. It is saved in the same transaction as the
+ * segment's records, so a segment is never applied twice.
+ */
+@Entity(tableName = "journal_checkpoint")
+public class JournalCheckpointEntity {
+
+    public static final int CHECKPOINT_ID = 0;
+
+    @PrimaryKey
+    public int id;
+    private long segment;
+
+    public void setSegment(long segment) {
+        this.segment = segment;
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+}
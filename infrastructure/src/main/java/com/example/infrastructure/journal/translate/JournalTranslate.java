@@ -0,0 +1,49 @@
+package com.example.infrastructure.journal.translate;
+
+import com.example.domain.parking.model.EpochMillis;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.infrastructure.journal.JournalRecord;
+import com.example.infrastructure.vehicle.database.entity.VehicleEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JournalTranslate {
+
+    private JournalTranslate() {}
+
+    public static List<VehicleEntity> translateVehicleListFromJournalToDB(List<JournalRecord> records) {
+        List<VehicleEntity> vehicleEntityList = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            VehicleEntity vehicleEntity = new VehicleEntity();
+            vehicleEntity.setVehicleType(record.getVehicleType());
+            vehicleEntity.setLicensePlate(record.getLicensePlate());
+            vehicleEntity.setEntryDate(EpochMillis.toLocalDateTime(record.getEntryMillis()));
+            vehicleEntity.setLotId(record.getLotId());
+            if (record.getBay() != Vehicle.NO_BAY) {
+                vehicleEntity.setBay(record.getBay());
+            }
+            if (record.getVehicleType() == VehicleType.MOTORCYCLE) {
+                vehicleEntity.setCylinderCapacity(record.getCylinderCapacity());
+            }
+            vehicleEntityList.add(vehicleEntity);
+        }
+        return vehicleEntityList;
+    }
+
+    public static List<Ticket> translateTicketListFromJournal(List<JournalRecord> records) {
+        List<Ticket> ticketList = new ArrayList<>(records.size());
+        records.forEach(record -> ticketList.add(new Ticket(record.getLicensePlate(), record.getVehicleType(),
+                record.getLotId(), record.getBay(), record.getEntryMillis(), record.getExitMillis(),
+                record.getCost())));
+        return ticketList;
+    }
+
+    public static List<String> translateLicensePlatesFromJournal(List<JournalRecord> records) {
+        List<String> licensePlates = new ArrayList<>(records.size());
+        records.forEach(record -> licensePlates.add(record.getLicensePlate()));
+        return licensePlates;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.infrastructure.lot.database.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.infrastructure.lot.database.entity.LotCapacityEntity;
+
+import java.util.List;
+
+@Dao
+public interface ParkingLotDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void saveLotCapacities(List<LotCapacityEntity> lotCapacityEntityList);
+
+    @Query("SELECT * FROM lot_capacity ORDER BY lotId, vehicleType")
+    List<LotCapacityEntity> getLotCapacities();
+
+}
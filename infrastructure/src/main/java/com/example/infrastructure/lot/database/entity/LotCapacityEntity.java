@@ -0,0 +1,38 @@
+package com.example.infrastructure.lot.database.entity;
+
+import androidx.room.Entity;
+
+/**
+ * Capacity of one parking lot for one vehicle class.
+ */
+@Entity(tableName = "lot_capacity", primaryKeys = {"lotId", "vehicleType"})
+public class LotCapacityEntity {
+
+    private int lotId;
+    private int vehicleType;
+    private int capacity;
+
+    public void setLotId(int lotId) {
+        this.lotId = lotId;
+    }
+
+    public void setVehicleType(int vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getLotId() {
+        return lotId;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.infrastructure.lot.repository;
+
+import android.content.Context;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.model.Parking;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.lot.database.entity.LotCapacityEntity;
+import com.example.infrastructure.lot.translate.ParkingLotTranslate;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+public class ParkingLotRepositoryRoom implements ParkingLotRepository {
+
+    private ParkingDatabase parkingDatabase;
+
+    @Inject
+    public ParkingLotRepositoryRoom(@ApplicationContext Context context) {
+        parkingDatabase = ParkingDatabase.getInstance(context);
+    }
+
+    @Override
+    public List<Parking> getLots() {
+        List<Parking> lots;
+        try {
+            lots = ParkingLotTranslate.translateLotListFromDBToDomain(
+                    parkingDatabase.parkingLotDao().getLotCapacities());
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener los parqueaderos", e);
+        }
+        return lots;
+    }
+
+    @Override
+    public void saveLots(List<Parking> lots) {
+        List<LotCapacityEntity> lotCapacityEntityList = ParkingLotTranslate.translateLotListFromDomainToDB(lots);
+        try {
+            parkingDatabase.parkingLotDao().saveLotCapacities(lotCapacityEntityList);
+        } catch (Exception e) {
+            throw new GlobalException("Error al guardar los parqueaderos", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.infrastructure.lot.translate;
+
+import com.example.domain.parking.model.Parking;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.infrastructure.lot.database.entity.LotCapacityEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ParkingLotTranslate {
+
+    private ParkingLotTranslate() {}
+
+    public static List<LotCapacityEntity> translateLotListFromDomainToDB(List<Parking> lots) {
+        List<LotCapacityEntity> lotCapacityEntityList = new ArrayList<>(lots.size() * VehicleType.COUNT);
+        for (Parking lot : lots) {
+            for (int vehicleType = 0; vehicleType < VehicleType.COUNT; vehicleType++) {
+                LotCapacityEntity lotCapacityEntity = new LotCapacityEntity();
+                lotCapacityEntity.setLotId(lot.getLotId());
+                lotCapacityEntity.setVehicleType(vehicleType);
+                lotCapacityEntity.setCapacity(lot.getCapacity(vehicleType));
+                lotCapacityEntityList.add(lotCapacityEntity);
+            }
+        }
+        return lotCapacityEntityList;
+    }
+
+    /**
+     * @param lotCapacityEntityList rows ordered by lot, so the rows of each lot are adjacent. A
+     *                              vehicle class with no row has no spaces in that lot.
+     */
+    public static List<Parking> translateLotListFromDBToDomain(List<LotCapacityEntity> lotCapacityEntityList) {
+        List<Parking> lots = new ArrayList<>();
+        int start = 0;
+        while (start < lotCapacityEntityList.size()) {
+            int lotId = lotCapacityEntityList.get(start).getLotId();
+            int[] capacities = new int[VehicleType.COUNT];
+            int end = start;
+            while (end < lotCapacityEntityList.size() && lotCapacityEntityList.get(end).getLotId() == lotId) {
+                LotCapacityEntity lotCapacityEntity = lotCapacityEntityList.get(end);
+                if (lotCapacityEntity.getVehicleType() < VehicleType.COUNT) {
+                    capacities[lotCapacityEntity.getVehicleType()] = lotCapacityEntity.getCapacity();
+                }
+                end++;
+            }
+            lots.add(new Parking(lotId, capacities));
+            start = end;
+        }
+        return lots;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.infrastructure.tariff.database.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+
+import com.example.infrastructure.tariff.database.entity.TariffEntity;
+
+import java.util.List;
+
+@Dao
+public interface TariffDao {
+
+    @Insert
+    void saveTariff(List<TariffEntity> tariffEntityList);
+
+    @Query("SELECT * FROM tariff WHERE version = (SELECT MAX(version) FROM tariff)")
+    List<TariffEntity> getCurrentTariff();
+
+}
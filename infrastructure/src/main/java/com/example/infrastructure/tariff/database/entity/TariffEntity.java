@@ -0,0 +1,71 @@
+package com.example.infrastructure.tariff.database.entity;
+
+import androidx.room.Entity;
+
+@Entity(tableName = "tariff", primaryKeys = {"version", "vehicleType"})
+public class TariffEntity {
+
+    private int version;
+    private int vehicleType;
+    private int priceHour;
+    private int priceDay;
+    private int surplus;
+    private int hourLimit;
+    private int cylinderCapacityLimit;
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public void setVehicleType(int vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+
+    public void setPriceHour(int priceHour) {
+        this.priceHour = priceHour;
+    }
+
+    public void setPriceDay(int priceDay) {
+        this.priceDay = priceDay;
+    }
+
+    public void setSurplus(int surplus) {
+        this.surplus = surplus;
+    }
+
+    public void setHourLimit(int hourLimit) {
+        this.hourLimit = hourLimit;
+    }
+
+    public void setCylinderCapacityLimit(int cylinderCapacityLimit) {
+        this.cylinderCapacityLimit = cylinderCapacityLimit;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getPriceHour() {
+        return priceHour;
+    }
+
+    public int getPriceDay() {
+        return priceDay;
+    }
+
+    public int getSurplus() {
+        return surplus;
+    }
+
+    public int getHourLimit() {
+        return hourLimit;
+    }
+
+    public int getCylinderCapacityLimit() {
+        return cylinderCapacityLimit;
+    }
+}
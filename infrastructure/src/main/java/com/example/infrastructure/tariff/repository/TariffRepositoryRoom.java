@@ -0,0 +1,50 @@
+package com.example.infrastructure.tariff.repository;
+
+import android.content.Context;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.model.Tariff;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.tariff.database.entity.TariffEntity;
+import com.example.infrastructure.tariff.translate.TariffTranslate;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+public class TariffRepositoryRoom implements TariffRepository {
+
+    private ParkingDatabase parkingDatabase;
+
+    @Inject
+    public TariffRepositoryRoom(@ApplicationContext Context context) {
+        parkingDatabase = ParkingDatabase.getInstance(context);
+    }
+
+    @Override
+    public Tariff getCurrentTariff() {
+        Tariff tariff = null;
+        try {
+            List<TariffEntity> tariffEntityList = parkingDatabase.tariffDao().getCurrentTariff();
+            if (!tariffEntityList.isEmpty()) {
+                tariff = TariffTranslate.translateTariffFromDBToDomain(tariffEntityList);
+            }
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener la tarifa vigente", e);
+        }
+        return tariff;
+    }
+
+    @Override
+    public void saveTariff(Tariff tariff) {
+        List<TariffEntity> tariffEntityList = TariffTranslate.translateTariffFromDomainToDB(tariff);
+        try {
+            parkingDatabase.tariffDao().saveTariff(tariffEntityList);
+        } catch (Exception e) {
+            throw new GlobalException("Error al guardar la tarifa", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.infrastructure.tariff.translate;
+
+import com.example.domain.parking.model.Rate;
+import com.example.domain.parking.model.Tariff;
+import com.example.domain.parking.model.TariffRate;
+import com.example.infrastructure.tariff.database.entity.TariffEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TariffTranslate {
+
+    private TariffTranslate() {}
+
+    public static List<TariffEntity> translateTariffFromDomainToDB(Tariff tariff) {
+        List<TariffEntity> tariffEntityList = new ArrayList<>(tariff.getRates().size());
+        for (TariffRate tariffRate : tariff.getRates()) {
+            TariffEntity tariffEntity = new TariffEntity();
+            tariffEntity.setVersion(tariff.getVersion());
+            tariffEntity.setVehicleType(tariffRate.getVehicleType());
+            tariffEntity.setPriceHour(tariffRate.getRate().getPriceHour());
+            tariffEntity.setPriceDay(tariffRate.getRate().getPriceDay());
+            tariffEntity.setSurplus(tariffRate.getRate().getSurplus());
+            tariffEntity.setHourLimit(tariffRate.getHourLimit());
+            tariffEntity.setCylinderCapacityLimit(tariffRate.getCylinderCapacityLimit());
+            tariffEntityList.add(tariffEntity);
+        }
+        return tariffEntityList;
+    }
+
+    /**
+     * @param tariffEntityList every row of a single version
+     */
+    public static Tariff translateTariffFromDBToDomain(List<TariffEntity> tariffEntityList) {
+        List<TariffRate> rates = new ArrayList<>(tariffEntityList.size());
+        tariffEntityList.forEach(tariffEntity -> rates.add(new TariffRate(tariffEntity.getVehicleType(),
+                new Rate(tariffEntity.getPriceHour(), tariffEntity.getPriceDay(), tariffEntity.getSurplus()),
+                tariffEntity.getHourLimit(), tariffEntity.getCylinderCapacityLimit())));
+        return new Tariff(tariffEntityList.get(0).getVersion(), rates);
+    }
+}
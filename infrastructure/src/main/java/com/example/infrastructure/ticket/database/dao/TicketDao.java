@@ -0,0 +1,52 @@
+package com.example.infrastructure.ticket.database.dao;
+
+import android.database.Cursor;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+
+import com.example.infrastructure.ticket.database.entity.RevenueRollupEntity;
+import com.example.infrastructure.ticket.database.entity.TicketEntity;
+
+import java.util.List;
+
+@Dao
+public interface TicketDao {
+
+    @Insert
+    void saveTickets(List<TicketEntity> ticketEntityList);
+
+    @Query("SELECT * FROM ticket WHERE exitDay BETWEEN :fromExitDay AND :toExitDay ORDER BY exitDay, exitDate")
+    Cursor getTickets(long fromExitDay, long toExitDay);
+
+    @Query("SELECT MIN(exitDay) FROM ticket")
+    Long getOldestExitDay();
+
+    @Query("DELETE FROM ticket WHERE exitDay = :exitDay")
+    int deleteTicketsOfDay(long exitDay);
+
+    @Query("SELECT * FROM ticket ORDER BY exitDay, exitDate")
+    Cursor getTicketsInExitOrder();
+
+    @Insert
+    void saveRollups(List<RevenueRollupEntity> revenueRollupEntityList);
+
+    /**
+     * Adds to an existing rollup.
+     *
+     * @return 0 if the bucket has no rollup yet, 1 otherwise
+     */
+    @Query("UPDATE revenue_rollup SET tickets = tickets + :tickets, revenue = revenue + :revenue, "
+            + "stayMillis = stayMillis + :stayMillis "
+            + "WHERE granularity = :granularity AND bucket = :bucket AND vehicleType = :vehicleType")
+    int addToRollup(int granularity, long bucket, int vehicleType, int tickets, long revenue, long stayMillis);
+
+    @Query("SELECT * FROM revenue_rollup WHERE granularity = :granularity "
+            + "AND bucket BETWEEN :fromBucket AND :toBucket ORDER BY bucket, vehicleType")
+    List<RevenueRollupEntity> getRollups(int granularity, long fromBucket, long toBucket);
+
+    @Query("DELETE FROM revenue_rollup WHERE granularity = :granularity AND bucket >= :fromBucket")
+    void deleteRollupsFrom(int granularity, long fromBucket);
+
+}
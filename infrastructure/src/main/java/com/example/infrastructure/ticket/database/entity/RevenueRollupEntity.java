@@ -0,0 +1,69 @@
+package com.example.infrastructure.ticket.database.entity;
+
+import androidx.room.Entity;
+
+/**
+ * Totals of the tickets of one vehicle class that ended in one hour or one day, counted from the
+ * epoch. Both granularities share the table and the primary key leads with the granularity, so a
+ * range of buckets is read straight from the key.
+ */
+@Entity(tableName = "revenue_rollup", primaryKeys = {"granularity", "bucket", "vehicleType"})
+public class RevenueRollupEntity {
+
+    public static final int HOURLY = 0;
+    public static final int DAILY = 1;
+    private int granularity;
+    private long bucket;
+    private int vehicleType;
+    private int tickets;
+    private long revenue;
+    private long stayMillis;
+
+    public void setGranularity(int granularity) {
+        this.granularity = granularity;
+    }
+
+    public void setBucket(long bucket) {
+        this.bucket = bucket;
+    }
+
+    public void setVehicleType(int vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+
+    public void setTickets(int tickets) {
+        this.tickets = tickets;
+    }
+
+    public void setRevenue(long revenue) {
+        this.revenue = revenue;
+    }
+
+    public void setStayMillis(long stayMillis) {
+        this.stayMillis = stayMillis;
+    }
+
+    public int getGranularity() {
+        return granularity;
+    }
+
+    public long getBucket() {
+        return bucket;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getTickets() {
+        return tickets;
+    }
+
+    public long getRevenue() {
+        return revenue;
+    }
+
+    public long getStayMillis() {
+        return stayMillis;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.infrastructure.ticket.database.entity;
+
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code exitDay} is the day of exit counted from the epoch.
+ */
+@Entity(tableName = "ticket", indices = {@Index(value = {"exitDay", "exitDate"})})
+public class TicketEntity {
+
+    @PrimaryKey(autoGenerate = true)
+    public long id;
+    private long exitDay;
+    private int vehicleType;
+    private int lotId;
+    private Integer bay;
+    private String licensePlate;
+    private LocalDateTime entryDate;
+    private LocalDateTime exitDate;
+    private int cost;
+
+    public void setExitDay(long exitDay) {
+        this.exitDay = exitDay;
+    }
+
+    public void setVehicleType(int vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+
+    public void setLotId(int lotId) {
+        this.lotId = lotId;
+    }
+
+    public void setBay(Integer bay) {
+        this.bay = bay;
+    }
+
+    public void setLicensePlate(String licensePlate) {
+        this.licensePlate = licensePlate;
+    }
+
+    public void setEntryDate(LocalDateTime entryDate) {
+        this.entryDate = entryDate;
+    }
+
+    public void setExitDate(LocalDateTime exitDate) {
+        this.exitDate = exitDate;
+    }
+
+    public void setCost(int cost) {
+        this.cost = cost;
+    }
+
+    public long getExitDay() {
+        return exitDay;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public int getLotId() {
+        return lotId;
+    }
+
+    public Integer getBay() {
+        return bay;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public LocalDateTime getEntryDate() {
+        return entryDate;
+    }
+
+    public LocalDateTime getExitDate() {
+        return exitDate;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
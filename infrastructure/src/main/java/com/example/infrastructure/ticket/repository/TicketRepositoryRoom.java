@@ -0,0 +1,140 @@
+package com.example.infrastructure.ticket.repository;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.RevenueRollupBuilder;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.journal.CheckInJournal;
+import com.example.infrastructure.journal.JournalRecord;
+import com.example.infrastructure.ticket.database.dao.TicketDao;
+import com.example.infrastructure.ticket.database.entity.RevenueRollupEntity;
+import com.example.infrastructure.ticket.translate.TicketTranslate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * Check-outs go through the {@link CheckInJournal}, which also adds them to the rollups. Pruning
+ * deletes one day of exit at a time and leaves the rollups alone.
+ */
+public class TicketRepositoryRoom implements TicketRepository {
+
+    private static final int HOURS_IN_A_DAY = 24;
+    private static final int ROLLUP_BATCH_SIZE = 500;
+
+    private final ParkingDatabase parkingDatabase;
+    private final CheckInJournal checkInJournal;
+
+    @Inject
+    public TicketRepositoryRoom(@ApplicationContext Context context) {
+        parkingDatabase = ParkingDatabase.getInstance(context);
+        checkInJournal = CheckInJournal.getInstance(context);
+    }
+
+    @Override
+    public void archiveTickets(List<Ticket> tickets) {
+        List<JournalRecord> records = new ArrayList<>(tickets.size());
+        tickets.forEach(ticket -> records.add(JournalRecord.checkOut(ticket)));
+        checkInJournal.append(records);
+    }
+
+    @Override
+    public List<Ticket> getTickets(long fromExitDay, long toExitDay) {
+        List<Ticket> ticketList;
+        checkInJournal.flush();
+        try (Cursor cursor = parkingDatabase.ticketDao().getTickets(fromExitDay, toExitDay)) {
+            ticketList = TicketTranslate.translateTicketListFromDBToDomain(cursor);
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener el historial de tiquetes", e);
+        }
+        return ticketList;
+    }
+
+    @Override
+    public int pruneTickets(long beforeExitDay) {
+        int prunedTickets = 0;
+        try {
+            Long oldestExitDay = parkingDatabase.ticketDao().getOldestExitDay();
+            while (oldestExitDay != null && oldestExitDay < beforeExitDay) {
+                prunedTickets += parkingDatabase.ticketDao().deleteTicketsOfDay(oldestExitDay);
+                oldestExitDay = parkingDatabase.ticketDao().getOldestExitDay();
+            }
+        } catch (Exception e) {
+            throw new GlobalException("Error al depurar el historial de tiquetes", e);
+        }
+        return prunedTickets;
+    }
+
+    @Override
+    public List<RevenueRollup> getHourlyRollups(long fromExitHour, long toExitHour) {
+        return getRollups(RevenueRollupEntity.HOURLY, fromExitHour, toExitHour,
+                "Error al obtener los totales por hora");
+    }
+
+    @Override
+    public List<RevenueRollup> getDailyRollups(long fromExitDay, long toExitDay) {
+        return getRollups(RevenueRollupEntity.DAILY, fromExitDay, toExitDay,
+                "Error al obtener los totales por dia");
+    }
+
+    /**
+     * Runs in one transaction, so check-outs written meanwhile are either walked or added on top
+     * of the rebuilt rollups.
+     */
+    @Override
+    public void rebuildRollups() {
+        checkInJournal.flush();
+        try {
+            parkingDatabase.runInTransaction(() -> {
+                TicketDao ticketDao = parkingDatabase.ticketDao();
+                Long oldestExitDay = ticketDao.getOldestExitDay();
+                if (oldestExitDay == null) {
+                    return;
+                }
+                ticketDao.deleteRollupsFrom(RevenueRollupEntity.HOURLY, oldestExitDay * HOURS_IN_A_DAY);
+                ticketDao.deleteRollupsFrom(RevenueRollupEntity.DAILY, oldestExitDay);
+                List<RevenueRollupEntity> revenueRollupEntityList = new ArrayList<>(ROLLUP_BATCH_SIZE);
+                RevenueRollupBuilder revenueRollupBuilder = new RevenueRollupBuilder(
+                        rollup -> saveRollup(revenueRollupEntityList, RevenueRollupEntity.HOURLY, rollup),
+                        rollup -> saveRollup(revenueRollupEntityList, RevenueRollupEntity.DAILY, rollup));
+                try (Cursor cursor = ticketDao.getTicketsInExitOrder()) {
+                    TicketTranslate.forEachTicket(cursor, revenueRollupBuilder::add);
+                }
+                revenueRollupBuilder.finish();
+                ticketDao.saveRollups(revenueRollupEntityList);
+            });
+        } catch (Exception e) {
+            throw new GlobalException("Error al reconstruir los totales de tiquetes", e);
+        }
+    }
+
+    private List<RevenueRollup> getRollups(int granularity, long fromBucket, long toBucket, String errorMessage) {
+        List<RevenueRollup> rollupList;
+        try {
+            checkInJournal.flush();
+            rollupList = TicketTranslate.translateRollupListFromDBToDomain(
+                    parkingDatabase.ticketDao().getRollups(granularity, fromBucket, toBucket));
+        } catch (Exception e) {
+            throw new GlobalException(errorMessage, e);
+        }
+        return rollupList;
+    }
+
+    private void saveRollup(List<RevenueRollupEntity> revenueRollupEntityList, int granularity,
+                            RevenueRollup rollup) {
+        revenueRollupEntityList.add(TicketTranslate.translateRollupFromDomainToDB(granularity, rollup));
+        if (revenueRollupEntityList.size() == ROLLUP_BATCH_SIZE) {
+            parkingDatabase.ticketDao().saveRollups(revenueRollupEntityList);
+            revenueRollupEntityList.clear();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.infrastructure.ticket.translate;
+
+import android.database.Cursor;
+
+import com.example.domain.parking.model.RevenueRollup;
+import com.example.domain.parking.model.Ticket;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.infrastructure.database.converter.DateConverter;
+import com.example.infrastructure.ticket.database.entity.RevenueRollupEntity;
+import com.example.infrastructure.ticket.database.entity.TicketEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class TicketTranslate {
+
+    private TicketTranslate() {}
+
+    public static List<TicketEntity> translateTicketListFromDomainToDB(List<Ticket> tickets) {
+        List<TicketEntity> ticketEntityList = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            TicketEntity ticketEntity = new TicketEntity();
+            ticketEntity.setExitDay(ticket.getExitDay());
+            ticketEntity.setVehicleType(ticket.getVehicleType());
+            ticketEntity.setLotId(ticket.getLotId());
+            if (ticket.getBay() != Vehicle.NO_BAY) {
+                ticketEntity.setBay(ticket.getBay());
+            }
+            ticketEntity.setLicensePlate(ticket.getLicensePlate());
+            ticketEntity.setEntryDate(DateConverter.fromEpochMillis(ticket.getEntryMillis()));
+            ticketEntity.setExitDate(DateConverter.fromEpochMillis(ticket.getExitMillis()));
+            ticketEntity.setCost(ticket.getCost());
+            ticketEntityList.add(ticketEntity);
+        }
+        return ticketEntityList;
+    }
+
+    public static List<Ticket> translateTicketListFromDBToDomain(Cursor cursor) {
+        List<Ticket> translatedTicketList = new ArrayList<>(cursor.getCount());
+        forEachTicket(cursor, translatedTicketList::add);
+        return translatedTicketList;
+    }
+
+    /**
+     * Walks the cursor once, building every ticket straight from its columns and handing it over
+     * without keeping it. Dates are kept in the milliseconds they are stored as.
+     */
+    public static void forEachTicket(Cursor cursor, Consumer<Ticket> action) {
+        int licensePlateIndex = cursor.getColumnIndexOrThrow("licensePlate");
+        int vehicleTypeIndex = cursor.getColumnIndexOrThrow("vehicleType");
+        int lotIdIndex = cursor.getColumnIndexOrThrow("lotId");
+        int bayIndex = cursor.getColumnIndexOrThrow("bay");
+        int entryDateIndex = cursor.getColumnIndexOrThrow("entryDate");
+        int exitDateIndex = cursor.getColumnIndexOrThrow("exitDate");
+        int costIndex = cursor.getColumnIndexOrThrow("cost");
+        while (cursor.moveToNext()) {
+            action.accept(new Ticket(cursor.getString(licensePlateIndex),
+                    cursor.getInt(vehicleTypeIndex), cursor.getInt(lotIdIndex),
+                    cursor.isNull(bayIndex) ? Vehicle.NO_BAY : cursor.getInt(bayIndex),
+                    cursor.getLong(entryDateIndex), cursor.getLong(exitDateIndex), cursor.getInt(costIndex)));
+        }
+    }
+
+    public static RevenueRollupEntity translateRollupFromDomainToDB(int granularity, RevenueRollup rollup) {
+        RevenueRollupEntity revenueRollupEntity = new RevenueRollupEntity();
+        revenueRollupEntity.setGranularity(granularity);
+        revenueRollupEntity.setBucket(rollup.getBucket());
+        revenueRollupEntity.setVehicleType(rollup.getVehicleType());
+        revenueRollupEntity.setTickets(rollup.getTickets());
+        revenueRollupEntity.setRevenue(rollup.getRevenue());
+        revenueRollupEntity.setStayMillis(rollup.getStayMillis());
+        return revenueRollupEntity;
+    }
+
+    public static List<RevenueRollup> translateRollupListFromDBToDomain(List<RevenueRollupEntity> revenueRollupEntityList) {
+        List<RevenueRollup> translatedRollupList = new ArrayList<>(revenueRollupEntityList.size());
+        revenueRollupEntityList.forEach(revenueRollupEntity -> translatedRollupList.add(new RevenueRollup(
+                revenueRollupEntity.getBucket(), revenueRollupEntity.getVehicleType(),
+                revenueRollupEntity.getTickets(), revenueRollupEntity.getRevenue(),
+                revenueRollupEntity.getStayMillis())));
+        return translatedRollupList;
+    }
+}
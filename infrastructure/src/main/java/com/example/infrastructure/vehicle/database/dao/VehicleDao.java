@@ -0,0 +1,61 @@
+package com.example.infrastructure.vehicle.database.dao;
+
+import android.database.Cursor;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.infrastructure.vehicle.database.entity.VehicleEntity;
+
+import java.util.List;
+
+/**
+ * Every vehicle class lives in the one {@code vehicle} table. Listings return a cursor that
+ * {@link com.example.infrastructure.vehicle.translate.VehicleTranslate} walks once.
+ */
+@Dao
+public interface VehicleDao {
+
+    @Insert
+    void saveVehicle(VehicleEntity vehicleEntity);
+
+    @Insert
+    void saveVehicles(List<VehicleEntity> vehicleEntityList);
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void saveVehiclesIfAbsent(List<VehicleEntity> vehicleEntityList);
+
+    @Query("DELETE FROM vehicle WHERE licensePlate = :licensePlate AND vehicleType = :vehicleType")
+    void deleteVehicle(String licensePlate, int vehicleType);
+
+    @Query("DELETE FROM vehicle WHERE vehicleType = :vehicleType AND licensePlate IN (:licensePlates)")
+    void deleteVehicles(List<String> licensePlates, int vehicleType);
+
+    @Query("SELECT * FROM vehicle ORDER BY entryDate, licensePlate")
+    Cursor getVehicles();
+
+    @Query("SELECT * FROM vehicle ORDER BY entryDate, licensePlate LIMIT :limit OFFSET :offset")
+    Cursor getVehicles(int offset, int limit);
+
+    @Query("SELECT * FROM vehicle WHERE vehicleType = :vehicleType ORDER BY entryDate, licensePlate")
+    Cursor getVehiclesByType(int vehicleType);
+
+    @Query("SELECT * FROM vehicle WHERE lotId = :lotId ORDER BY entryDate, licensePlate")
+    Cursor getVehiclesInLot(int lotId);
+
+    @Query("SELECT licensePlate FROM vehicle")
+    List<String> getLicensePlates();
+
+    @Query("SELECT * FROM vehicle WHERE licensePlate = :licensePlate AND vehicleType = :vehicleType LIMIT 1")
+    VehicleEntity findVehicleByLicensePlate(String licensePlate, int vehicleType);
+
+    @Query("SELECT EXISTS(SELECT 1 FROM vehicle WHERE licensePlate = :licensePlate "
+            + "AND vehicleType = :vehicleType)")
+    boolean existsVehicleByLicensePlate(String licensePlate, int vehicleType);
+
+    @Query("SELECT COUNT(*) FROM vehicle WHERE lotId = :lotId AND vehicleType = :vehicleType")
+    int getNumberOfVehicles(int lotId, int vehicleType);
+
+}
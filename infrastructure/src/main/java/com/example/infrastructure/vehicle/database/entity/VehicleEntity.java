@@ -0,0 +1,84 @@
+package com.example.infrastructure.vehicle.database.entity;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of any parked vehicle. The class is told by {@code vehicleType}, one of the
+ * {@link com.example.domain.vehicle.vehicle.model.VehicleType} constants, and attributes that only
+ * some classes have are nullable, so a new class of vehicle needs no table of its own. Every row
+ * belongs to the parking lot in {@code lotId}, and per-lot queries are served by their own index.
+ * {@code bay} is null for vehicles parked before bays were assigned.
+ */
+@Entity(tableName = "vehicle", indices = {@Index(value = "licensePlate", unique = true),
+        @Index(value = {"entryDate", "licensePlate"}),
+        @Index(value = {"vehicleType", "entryDate", "licensePlate"}),
+        @Index(value = {"lotId", "vehicleType", "entryDate", "licensePlate"})})
+public class VehicleEntity {
+
+    @PrimaryKey(autoGenerate = true)
+    public int id;
+    private int vehicleType;
+    private String licensePlate;
+    private LocalDateTime entryDate;
+    private Integer cylinderCapacity;
+    @ColumnInfo(defaultValue = "0")
+    private int lotId;
+    private Integer bay;
+
+    public void setVehicleType(int vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+
+    public void setLicensePlate(String licensePlate) {
+        this.licensePlate = licensePlate;
+    }
+
+    public void setEntryDate(LocalDateTime entryDate) {
+        this.entryDate = entryDate;
+    }
+
+    public void setCylinderCapacity(Integer cylinderCapacity) {
+        this.cylinderCapacity = cylinderCapacity;
+    }
+
+    public void setLotId(int lotId) {
+        this.lotId = lotId;
+    }
+
+    public void setBay(Integer bay) {
+        this.bay = bay;
+    }
+
+    public int getVehicleType() {
+        return vehicleType;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    public LocalDateTime getEntryDate() {
+        return entryDate;
+    }
+
+    public Integer getCylinderCapacity() {
+        return cylinderCapacity;
+    }
+
+    public int getLotId() {
+        return lotId;
+    }
+
+    public Integer getBay() {
+        return bay;
+    }
+
+    public int getId() {
+        return id;
+    }
+}
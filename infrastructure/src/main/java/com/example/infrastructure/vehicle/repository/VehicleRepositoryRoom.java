@@ -0,0 +1,256 @@
+package com.example.infrastructure.vehicle.repository;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.domain.vehicle.vehicle.repository.VehicleObserver;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.journal.CheckInJournal;
+import com.example.infrastructure.journal.JournalRecord;
+import com.example.infrastructure.vehicle.database.entity.VehicleEntity;
+import com.example.infrastructure.vehicle.translate.VehicleTranslate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * Every vehicle class stored in the single {@code vehicle} table. Check-ins and check-outs go
+ * through the {@link CheckInJournal}, so they return once journaled; queries flush the journal
+ * first so they see every accepted change.
+ *
+ * <p>The car and motorcycle repositories are views of this one by vehicle type: each of their
+ * queries is a single indexed statement on the shared table. Counts are scoped by lot and served
+ * by the index that leads with the lot id.</p>
+ */
+public class VehicleRepositoryRoom implements VehicleRepository, CarRepository, MotorcycleRepository {
+
+    private final ParkingDatabase parkingDatabase;
+    private final CheckInJournal checkInJournal;
+
+    @Inject
+    public VehicleRepositoryRoom(@ApplicationContext Context context) {
+        parkingDatabase = ParkingDatabase.getInstance(context);
+        checkInJournal = CheckInJournal.getInstance(context);
+    }
+
+    @Override
+    public List<Vehicle> getVehicles() {
+        List<Vehicle> vehicleList;
+        checkInJournal.flush();
+        try (Cursor cursor = parkingDatabase.vehicleDao().getVehicles()) {
+            vehicleList = VehicleTranslate.translateVehicleListFromDBToDomain(cursor);
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener la lista de vehiculos", e);
+        }
+        return vehicleList;
+    }
+
+    @Override
+    public List<Vehicle> getVehicles(int offset, int limit) {
+        List<Vehicle> vehicleList;
+        checkInJournal.flush();
+        try (Cursor cursor = parkingDatabase.vehicleDao().getVehicles(offset, limit)) {
+            vehicleList = VehicleTranslate.translateVehicleListFromDBToDomain(cursor);
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener la pagina de vehiculos", e);
+        }
+        return vehicleList;
+    }
+
+    @Override
+    public List<Vehicle> getVehiclesInLot(int lotId) {
+        List<Vehicle> vehicleList;
+        checkInJournal.flush();
+        try (Cursor cursor = parkingDatabase.vehicleDao().getVehiclesInLot(lotId)) {
+            vehicleList = VehicleTranslate.translateVehicleListFromDBToDomain(cursor);
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener los vehiculos del parqueadero", e);
+        }
+        return vehicleList;
+    }
+
+    @Override
+    public List<String> getLicensePlates() {
+        List<String> licensePlates;
+        try {
+            checkInJournal.flush();
+            licensePlates = parkingDatabase.vehicleDao().getLicensePlates();
+        } catch (Exception e) {
+            throw new GlobalException("Error al obtener las placas de los vehiculos", e);
+        }
+        return licensePlates;
+    }
+
+    /**
+     * Observers are notified by the {@code ParkedVehicleStore} this repository feeds, after every
+     * write, so they are not supported here.
+     */
+    @Override
+    public void addVehicleObserver(VehicleObserver vehicleObserver) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeVehicleObserver(VehicleObserver vehicleObserver) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void saveCar(Car car) {
+        checkInJournal.append(JournalRecord.save(car));
+    }
+
+    @Override
+    public void deleteCar(Car car) {
+        checkInJournal.append(JournalRecord.delete(car));
+    }
+
+    @Override
+    public void saveCars(List<Car> cars) {
+        saveVehicles(cars);
+    }
+
+    @Override
+    public void deleteCars(List<Car> cars) {
+        deleteVehicles(cars);
+    }
+
+    @Override
+    public int getNumberOfCars(int lotId) {
+        return getNumberOfVehicles(lotId, VehicleType.CAR, "Error al obtener el numero de carros");
+    }
+
+    @Override
+    public List<Car> getCars() {
+        List<Car> carList = new ArrayList<>();
+        getVehicles(VehicleType.CAR, "Error al obtener la lista de carros")
+                .forEach(vehicle -> carList.add((Car) vehicle));
+        return carList;
+    }
+
+    @Override
+    public Car findCarByLicensePlate(String licensePlate) {
+        return (Car) findVehicle(licensePlate, VehicleType.CAR, "Error al buscar el carro por placa");
+    }
+
+    @Override
+    public boolean existsCarByLicensePlate(String licensePlate) {
+        return existsVehicle(licensePlate, VehicleType.CAR, "Error al buscar el carro por placa");
+    }
+
+    @Override
+    public void saveMotorcycle(Motorcycle motorcycle) {
+        checkInJournal.append(JournalRecord.save(motorcycle));
+    }
+
+    @Override
+    public void deleteMotorcycle(Motorcycle motorcycle) {
+        checkInJournal.append(JournalRecord.delete(motorcycle));
+    }
+
+    @Override
+    public void saveMotorcycles(List<Motorcycle> motorcycles) {
+        saveVehicles(motorcycles);
+    }
+
+    @Override
+    public void deleteMotorcycles(List<Motorcycle> motorcycles) {
+        deleteVehicles(motorcycles);
+    }
+
+    @Override
+    public int getNumberOfMotorcycles(int lotId) {
+        return getNumberOfVehicles(lotId, VehicleType.MOTORCYCLE, "Error al obtener la cantidad de motos");
+    }
+
+    @Override
+    public List<Motorcycle> getMotorcycles() {
+        List<Motorcycle> motorcycleList = new ArrayList<>();
+        getVehicles(VehicleType.MOTORCYCLE, "Error al obtener la lista de motos")
+                .forEach(vehicle -> motorcycleList.add((Motorcycle) vehicle));
+        return motorcycleList;
+    }
+
+    @Override
+    public Motorcycle findMotorcycleByLicensePlate(String licensePlate) {
+        return (Motorcycle) findVehicle(licensePlate, VehicleType.MOTORCYCLE, "Error al buscar la moto por placa");
+    }
+
+    @Override
+    public boolean existsMotorcycleByLicensePlate(String licensePlate) {
+        return existsVehicle(licensePlate, VehicleType.MOTORCYCLE, "Error al buscar la moto por placa");
+    }
+
+    @Override
+    public void saveVehicles(List<? extends Vehicle> vehicles) {
+        List<JournalRecord> records = new ArrayList<>(vehicles.size());
+        vehicles.forEach(vehicle -> records.add(JournalRecord.save(vehicle)));
+        checkInJournal.append(records);
+    }
+
+    private void deleteVehicles(List<? extends Vehicle> vehicles) {
+        List<JournalRecord> records = new ArrayList<>(vehicles.size());
+        vehicles.forEach(vehicle -> records.add(JournalRecord.delete(vehicle)));
+        checkInJournal.append(records);
+    }
+
+    private int getNumberOfVehicles(int lotId, int vehicleType, String errorMessage) {
+        int numberOfVehicles;
+        try {
+            checkInJournal.flush();
+            numberOfVehicles = parkingDatabase.vehicleDao().getNumberOfVehicles(lotId, vehicleType);
+        } catch (Exception e) {
+            throw new GlobalException(errorMessage, e);
+        }
+        return numberOfVehicles;
+    }
+
+    private List<Vehicle> getVehicles(int vehicleType, String errorMessage) {
+        List<Vehicle> vehicleList;
+        checkInJournal.flush();
+        try (Cursor cursor = parkingDatabase.vehicleDao().getVehiclesByType(vehicleType)) {
+            vehicleList = VehicleTranslate.translateVehicleListFromDBToDomain(cursor);
+        } catch (Exception e) {
+            throw new GlobalException(errorMessage, e);
+        }
+        return vehicleList;
+    }
+
+    private Vehicle findVehicle(String licensePlate, int vehicleType, String errorMessage) {
+        Vehicle vehicle = null;
+        try {
+            checkInJournal.flush();
+            VehicleEntity vehicleEntity = parkingDatabase.vehicleDao()
+                    .findVehicleByLicensePlate(licensePlate, vehicleType);
+            if (vehicleEntity != null) {
+                vehicle = VehicleTranslate.translateVehicleFromDBToDomain(vehicleEntity);
+            }
+        } catch (Exception e) {
+            throw new GlobalException(errorMessage, e);
+        }
+        return vehicle;
+    }
+
+    private boolean existsVehicle(String licensePlate, int vehicleType, String errorMessage) {
+        boolean exists;
+        try {
+            checkInJournal.flush();
+            exists = parkingDatabase.vehicleDao().existsVehicleByLicensePlate(licensePlate, vehicleType);
+        } catch (Exception e) {
+            throw new GlobalException(errorMessage, e);
+        }
+        return exists;
+    }
+}
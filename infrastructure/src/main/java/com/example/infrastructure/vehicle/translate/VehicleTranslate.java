@@ -0,0 +1,80 @@
+package com.example.infrastructure.vehicle.translate;
+
+import android.database.Cursor;
+
+import com.example.domain.vehicle.car.model.Car;
+import com.example.domain.vehicle.motorcycle.model.Motorcycle;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.example.domain.vehicle.vehicle.model.VehicleType;
+import com.example.infrastructure.database.converter.DateConverter;
+import com.example.infrastructure.vehicle.database.entity.VehicleEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class VehicleTranslate {
+
+    private VehicleTranslate() {}
+
+    public static VehicleEntity translateVehicleFromDomainToDB(Vehicle vehicle) {
+        VehicleEntity vehicleEntity = new VehicleEntity();
+        vehicleEntity.setVehicleType(vehicle.getType());
+        vehicleEntity.setLicensePlate(vehicle.getLicensePlate());
+        vehicleEntity.setEntryDate(vehicle.getEntryDate());
+        vehicleEntity.setLotId(vehicle.getLotId());
+        if (vehicle.getBay() != Vehicle.NO_BAY) {
+            vehicleEntity.setBay(vehicle.getBay());
+        }
+        if (vehicle.getType() == VehicleType.MOTORCYCLE) {
+            vehicleEntity.setCylinderCapacity(vehicle.getCylinderCapacity());
+        }
+        return vehicleEntity;
+    }
+
+    public static List<VehicleEntity> translateVehicleListFromDomainToDB(List<? extends Vehicle> vehicleList) {
+        List<VehicleEntity> translatedVehicleList = new ArrayList<>(vehicleList.size());
+        vehicleList.forEach(vehicle -> translatedVehicleList.add(translateVehicleFromDomainToDB(vehicle)));
+        return translatedVehicleList;
+    }
+
+    public static Vehicle translateVehicleFromDBToDomain(VehicleEntity vehicleEntity) {
+        return createVehicle(vehicleEntity.getVehicleType(), vehicleEntity.getLicensePlate(),
+                vehicleEntity.getEntryDate(), vehicleEntity.getCylinderCapacity() == null
+                        ? 0 : vehicleEntity.getCylinderCapacity(), vehicleEntity.getLotId(),
+                vehicleEntity.getBay() == null ? Vehicle.NO_BAY : vehicleEntity.getBay());
+    }
+
+    /**
+     * Walks the cursor once, building every vehicle straight from its columns.
+     */
+    public static List<Vehicle> translateVehicleListFromDBToDomain(Cursor cursor) {
+        List<Vehicle> translatedVehicleList = new ArrayList<>(cursor.getCount());
+        int licensePlateIndex = cursor.getColumnIndexOrThrow("licensePlate");
+        int entryDateIndex = cursor.getColumnIndexOrThrow("entryDate");
+        int cylinderCapacityIndex = cursor.getColumnIndexOrThrow("cylinderCapacity");
+        int vehicleTypeIndex = cursor.getColumnIndexOrThrow("vehicleType");
+        int lotIdIndex = cursor.getColumnIndexOrThrow("lotId");
+        int bayIndex = cursor.getColumnIndexOrThrow("bay");
+        while (cursor.moveToNext()) {
+            LocalDateTime entryDate = cursor.isNull(entryDateIndex)
+                    ? null : DateConverter.fromEpochMillis(cursor.getLong(entryDateIndex));
+            translatedVehicleList.add(createVehicle(cursor.getInt(vehicleTypeIndex),
+                    cursor.getString(licensePlateIndex), entryDate, cursor.getInt(cylinderCapacityIndex),
+                    cursor.getInt(lotIdIndex), cursor.isNull(bayIndex) ? Vehicle.NO_BAY : cursor.getInt(bayIndex)));
+        }
+        return translatedVehicleList;
+    }
+
+    private static Vehicle createVehicle(int vehicleType, String licensePlate, LocalDateTime entryDate,
+                                         int cylinderCapacity, int lotId, int bay) {
+        Vehicle vehicle;
+        if (vehicleType == VehicleType.MOTORCYCLE) {
+            vehicle = new Motorcycle(licensePlate, entryDate, cylinderCapacity, lotId);
+        } else {
+            vehicle = new Car(licensePlate, entryDate, lotId);
+        }
+        vehicle.assignBay(bay);
+        return vehicle;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.infrastructure.database.converter;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DateConverterUnitTest {
+
+    @Test
+    public void toLocalDateTime_roundTrip_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(2021, 5, 23, 13, 57, 12, 345000000);
+        //Act
+        LocalDateTime translatedDate = DateConverter.toLocalDateTime(DateConverter.fromLocalDateTime(entryDate));
+        //Assert
+        assertEquals(entryDate, translatedDate);
+    }
+
+    @Test
+    public void fromLocalDateTime_nullDate_isCorrect() {
+        //Act
+        Long epochMillis = DateConverter.fromLocalDateTime(null);
+        //Assert
+        assertNull(epochMillis);
+    }
+
+    @Test
+    public void fromEpochMillis_beforeEpoch_isCorrect() {
+        //Arrange
+        LocalDateTime entryDate = LocalDateTime
+                .of(1969, 12, 31, 23, 59, 59, 999000000);
+        //Act
+        long epochMillis = DateConverter.toEpochMillis(entryDate);
+        //Assert
+        assertEquals(-1L, epochMillis);
+        assertEquals(entryDate, DateConverter.fromEpochMillis(epochMillis));
+    }
+}
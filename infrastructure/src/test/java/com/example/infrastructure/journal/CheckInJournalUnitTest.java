@@ -0,0 +1,129 @@
+package com.example.infrastructure.journal;
+
+import android.database.sqlite.SQLiteConstraintException;
+
+import androidx.room.DatabaseConfiguration;
+import androidx.room.InvalidationTracker;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.vehicle.car.model.Car;
+import com.example.infrastructure.database.ParkingDatabase;
+import com.example.infrastructure.journal.database.dao.JournalDao;
+import com.example.infrastructure.journal.database.entity.JournalCheckpointEntity;
+import com.example.infrastructure.lot.database.dao.ParkingLotDao;
+import com.example.infrastructure.tariff.database.dao.TariffDao;
+import com.example.infrastructure.ticket.database.dao.TicketDao;
+import com.example.infrastructure.vehicle.database.dao.VehicleDao;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CheckInJournalUnitTest {
+
+    private static final LocalDateTime ENTRY_DATE = LocalDateTime
+            .of(2021, 5, 25, 13, 57, 0);
+
+    @Test
+    public void flush_constraintFailure_isCorrect() throws IOException {
+        //Arrange
+        File directory = Files.createTempDirectory("journal").toFile();
+        CheckInJournal checkInJournal = new CheckInJournal(directory, new ConstraintFailingDatabase());
+        checkInJournal.append(JournalRecord.save(new Car("YMU-95C", ENTRY_DATE)));
+        //Act
+        try {
+            checkInJournal.flush();
+            fail();
+        } catch (GlobalException e) {
+            //Assert
+            try {
+                checkInJournal.append(JournalRecord.save(new Car("YMU-96C", ENTRY_DATE)));
+                fail();
+            } catch (GlobalException ignored) {
+                // The journal stays stopped
+            }
+            assertTrue(new File(directory, "0.journal").length() > 0);
+        }
+    }
+
+    /**
+     * Database whose vehicle table refuses every insert.
+     */
+    private static final class ConstraintFailingDatabase extends ParkingDatabase {
+
+        private JournalCheckpointEntity checkpoint;
+
+        @Override
+        public VehicleDao vehicleDao() {
+            return fake(VehicleDao.class, true);
+        }
+
+        @Override
+        public TariffDao tariffDao() {
+            return fake(TariffDao.class, false);
+        }
+
+        @Override
+        public JournalDao journalDao() {
+            return new JournalDao() {
+                @Override
+                public void saveCheckpoint(JournalCheckpointEntity journalCheckpointEntity) {
+                    checkpoint = journalCheckpointEntity;
+                }
+
+                @Override
+                public JournalCheckpointEntity getCheckpoint() {
+                    return checkpoint;
+                }
+            };
+        }
+
+        @Override
+        public ParkingLotDao parkingLotDao() {
+            return fake(ParkingLotDao.class, false);
+        }
+
+        @Override
+        public TicketDao ticketDao() {
+            return fake(TicketDao.class, false);
+        }
+
+        @Override
+        public void runInTransaction(Runnable body) {
+            body.run();
+        }
+
+        @Override
+        protected SupportSQLiteOpenHelper createOpenHelper(DatabaseConfiguration config) {
+            return null;
+        }
+
+        @Override
+        protected InvalidationTracker createInvalidationTracker() {
+            return null;
+        }
+
+        @Override
+        public void clearAllTables() {
+        }
+
+        private static <T> T fake(Class<T> dao, boolean failing) {
+            Object proxy = Proxy.newProxyInstance(dao.getClassLoader(), new Class<?>[]{dao},
+                    (instance, method, arguments) -> {
+                        if (failing) {
+                            throw new SQLiteConstraintException("UNIQUE constraint failed");
+                        }
+                        return method.getReturnType() == int.class ? 0 : null;
+                    });
+            return dao.cast(proxy);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.infrastructure.journal;
+
+import com.example.domain.parking.model.Ticket;
+
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JournalRecordUnitTest {
+
+    @Test
+    public void readSegment_roundTrip_isCorrect() throws IOException {
+        //Arrange
+        File segment = File.createTempFile("segment", ".journal");
+        segment.deleteOnExit();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(segment))) {
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-95C", 1621950000000L, 0, 0, 0).writeTo(output);
+            new JournalRecord(JournalRecord.DELETE, 2, "YMU-95D", -1L, 650, 7, 12).writeTo(output);
+        }
+        //Act
+        List<JournalRecord> records = JournalRecord.readSegment(segment);
+        //Assert
+        assertEquals(2, records.size());
+        assertEquals(JournalRecord.SAVE, records.get(0).getOperation());
+        assertEquals(1, records.get(0).getVehicleType());
+        assertEquals("YMU-95C", records.get(0).getLicensePlate());
+        assertEquals(1621950000000L, records.get(0).getEntryMillis());
+        assertEquals(JournalRecord.DELETE, records.get(1).getOperation());
+        assertEquals(-1L, records.get(1).getEntryMillis());
+        assertEquals(650, records.get(1).getCylinderCapacity());
+        assertEquals(7, records.get(1).getLotId());
+        assertEquals(12, records.get(1).getBay());
+    }
+
+    @Test
+    public void readSegment_checkOut_isCorrect() throws IOException {
+        //Arrange
+        File segment = File.createTempFile("segment", ".journal");
+        segment.deleteOnExit();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(segment))) {
+            JournalRecord.checkOut(new Ticket("YMU-95C", 0, 3, 4, 1621950000000L, 1621968000000L, 5000))
+                    .writeTo(output);
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-96C", 1621950000000L, 0, 0, 0).writeTo(output);
+        }
+        //Act
+        List<JournalRecord> records = JournalRecord.readSegment(segment);
+        //Assert
+        assertEquals(2, records.size());
+        assertEquals(JournalRecord.CHECK_OUT, records.get(0).getOperation());
+        assertEquals(3, records.get(0).getLotId());
+        assertEquals(4, records.get(0).getBay());
+        assertEquals(1621968000000L, records.get(0).getExitMillis());
+        assertEquals(5000, records.get(0).getCost());
+        assertEquals("YMU-96C", records.get(1).getLicensePlate());
+    }
+
+    @Test
+    public void readSegment_truncatedTail_isCorrect() throws IOException {
+        //Arrange
+        File segment = File.createTempFile("segment", ".journal");
+        segment.deleteOnExit();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(segment))) {
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-95C", 1621950000000L, 0, 0, 0).writeTo(output);
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-96C", 1621950000000L, 0, 0, 0).writeTo(output);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        //Act
+        List<JournalRecord> records = JournalRecord.readSegment(segment);
+        //Assert
+        assertEquals(1, records.size());
+        assertEquals("YMU-95C", records.get(0).getLicensePlate());
+    }
+
+    @Test
+    public void readSegment_corruptedTail_isCorrect() throws IOException {
+        //Arrange
+        File segment = File.createTempFile("segment", ".journal");
+        segment.deleteOnExit();
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(segment))) {
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-95C", 1621950000000L, 0, 0, 0).writeTo(output);
+            new JournalRecord(JournalRecord.SAVE, 1, "YMU-96C", 1621950000000L, 0, 0, 0).writeTo(output);
+            output.writeInt(Integer.MAX_VALUE);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(file.length() - 10);
+            file.writeByte(0x7F);
+        }
+        //Act
+        List<JournalRecord> records = JournalRecord.readSegment(segment);
+        //Assert
+        assertEquals(1, records.size());
+        assertEquals("YMU-95C", records.get(0).getLicensePlate());
+    }
+}
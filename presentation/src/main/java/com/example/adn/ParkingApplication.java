@@ -1,9 +1,64 @@
 package com.example.adn;
 
 import android.app.Application;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.domain.parking.executor.ParkingExecutor;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.infrastructure.journal.CheckInJournal;
+
+import java.time.LocalDate;
+
+import javax.inject.Inject;
 
 import dagger.hilt.android.HiltAndroidApp;
 
 @HiltAndroidApp
 public class ParkingApplication extends Application {
+
+    private static final String TAG = "ParkingApplication";
+    private static final int TICKET_RETENTION_DAYS = 365;
+
+    @Inject
+    ParkedVehicleStore parkedVehicleStore;
+
+    @Inject
+    ParkingExecutor parkingExecutor;
+
+    @Inject
+    ParkingService parkingService;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        // Starts replaying the check-ins a previous run journaled but did not get to write to Room.
+        CheckInJournal.getInstance(this);
+        // Loads the parked vehicles while the first activity inflates, so its list is served from memory.
+        parkingExecutor.getReader().execute(this::warmUpParkedVehicles);
+        // Drops the tickets past retention once per start, a day at a time, behind any pending check-in.
+        parkingExecutor.getWriter().execute(this::pruneTickets);
+    }
+
+    private void warmUpParkedVehicles() {
+        long startMillis = SystemClock.elapsedRealtime();
+        try {
+            parkedVehicleStore.warmUp();
+            Log.i(TAG, "Parked vehicles loaded in " + (SystemClock.elapsedRealtime() - startMillis) + " ms");
+            // Rebuilds the free bays of every lot from the vehicles just loaded, in one pass.
+            parkingService.warmUp();
+        } catch (Exception e) {
+            Log.e(TAG, "Parked vehicles warm-up failed, they will be loaded on first use", e);
+        }
+    }
+
+    private void pruneTickets() {
+        try {
+            int prunedTickets = parkingService.pruneTickets(LocalDate.now().minusDays(TICKET_RETENTION_DAYS));
+            Log.i(TAG, prunedTickets + " tickets past retention pruned");
+        } catch (Exception e) {
+            Log.e(TAG, "Ticket pruning failed, it will be retried on the next start", e);
+        }
+    }
 }
@@ -9,7 +9,7 @@ import android.os.Bundle;
 import android.view.View;
 import android.widget.Toast;
 
-import com.example.adn.adapter.VehicleAdapter;
+import com.example.adn.adapter.VehiclePagingAdapter;
 import com.example.adn.databinding.ActivityParkingServiceBinding;
 import com.example.adn.viewmodel.ParkingViewModel;
 import com.example.domain.parking.exception.GlobalException;
@@ -18,14 +18,13 @@ import com.example.domain.vehicle.motorcycle.model.Motorcycle;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import dagger.hilt.android.AndroidEntryPoint;
 
 @AndroidEntryPoint
 public class ParkingServiceActivity extends AppCompatActivity {
 
-    private VehicleAdapter vehicleAdapter;
+    private VehiclePagingAdapter vehiclePagingAdapter;
 
     private ParkingViewModel parkingViewModel;
     private ActivityParkingServiceBinding binding;
@@ -60,12 +59,12 @@ public class ParkingServiceActivity extends AppCompatActivity {
         LinearLayoutManager linearLayoutManager = new LinearLayoutManager(this);
         linearLayoutManager.setOrientation(LinearLayoutManager.VERTICAL);
         binding.recyclerViewVehicles.setLayoutManager(linearLayoutManager);
-        parkingViewModel.getVehicleMutableList().observe(this, this::updateAdapter);
-    }
-
-    private void updateAdapter(List<Vehicle> vehicleList) {
-        vehicleAdapter = new VehicleAdapter(vehicleList, this);
-        binding.recyclerViewVehicles.setAdapter(vehicleAdapter);
+        vehiclePagingAdapter = new VehiclePagingAdapter(this);
+        binding.recyclerViewVehicles.setAdapter(vehiclePagingAdapter);
+        parkingViewModel.getVehiclePagingData().observe(this, pagingData ->
+                vehiclePagingAdapter.submitData(getLifecycle(), pagingData));
+        parkingViewModel.getParkingBusy().observe(this, message ->
+                Toast.makeText(this, message, Toast.LENGTH_SHORT).show());
     }
 
     private void onClickManager() {
@@ -110,7 +109,6 @@ public class ParkingServiceActivity extends AppCompatActivity {
         } catch (GlobalException e) {
             Toast.makeText(this, "" + e.getMessage(), Toast.LENGTH_SHORT).show();
         }
-        vehicleAdapter.notifyDataSetChanged();
     }
 
     private void clearFields() {
@@ -121,7 +119,6 @@ public class ParkingServiceActivity extends AppCompatActivity {
     public void collectParkingService(Vehicle vehicle) {
         parkingViewModel.collectParkingService(vehicle).observe(this, billParkingService -> {
             Toast.makeText(this, "Total a pagar: " + billParkingService, Toast.LENGTH_SHORT).show();
-            vehicleAdapter.notifyDataSetChanged();
         });
     }
 }
@@ -0,0 +1,22 @@
+package com.example.adn.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+
+import java.util.Objects;
+
+public class VehicleDiffCallback extends DiffUtil.ItemCallback<Vehicle> {
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Vehicle oldVehicle, @NonNull Vehicle newVehicle) {
+        return oldVehicle.getLicensePlate().equals(newVehicle.getLicensePlate());
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Vehicle oldVehicle, @NonNull Vehicle newVehicle) {
+        return oldVehicle.getClass() == newVehicle.getClass()
+                && Objects.equals(oldVehicle.getEntryDate(), newVehicle.getEntryDate());
+    }
+}
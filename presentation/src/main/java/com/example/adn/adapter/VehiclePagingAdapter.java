@@ -5,21 +5,18 @@ import android.view.LayoutInflater;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
-import androidx.recyclerview.widget.RecyclerView;
+import androidx.paging.PagingDataAdapter;
 
-import com.example.adn.viewholder.VehicleViewHolder;
 import com.example.adn.R;
+import com.example.adn.viewholder.VehicleViewHolder;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
 
-import java.util.List;
-
-public class VehicleAdapter extends RecyclerView.Adapter<VehicleViewHolder> {
+public class VehiclePagingAdapter extends PagingDataAdapter<Vehicle, VehicleViewHolder> {
 
-    private final List<Vehicle> vehicleList;
     private final Activity activity;
 
-    public VehicleAdapter(List<Vehicle> vehicleList, Activity activity) {
-        this.vehicleList = vehicleList;
+    public VehiclePagingAdapter(Activity activity) {
+        super(new VehicleDiffCallback());
         this.activity = activity;
     }
 
@@ -32,12 +29,9 @@ public class VehicleAdapter extends RecyclerView.Adapter<VehicleViewHolder> {
 
     @Override
     public void onBindViewHolder(@NonNull VehicleViewHolder holder, int position) {
-        Vehicle vehicle = vehicleList.get(position);
-        holder.bindData(vehicle, activity);
-    }
-
-    @Override
-    public int getItemCount() {
-        return vehicleList.size();
+        Vehicle vehicle = getItem(position);
+        if (vehicle != null) {
+            holder.bindData(vehicle, activity);
+        }
     }
 }
@@ -0,0 +1,25 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.executor.ParkingExecutor;
+
+import javax.inject.Singleton;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public class ExecutorModule {
+
+    private static final int READER_THREADS = 3;
+    private static final int QUEUE_CAPACITY = 64;
+
+    @Provides
+    @Singleton
+    public static ParkingExecutor provideParkingExecutor() {
+        return new ParkingExecutor(READER_THREADS, QUEUE_CAPACITY);
+    }
+
+}
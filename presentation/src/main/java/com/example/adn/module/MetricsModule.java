@@ -0,0 +1,22 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.metrics.ParkingMetrics;
+
+import javax.inject.Singleton;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public class MetricsModule {
+
+    @Provides
+    @Singleton
+    public static ParkingMetrics provideParkingMetrics() {
+        return new ParkingMetrics();
+    }
+
+}
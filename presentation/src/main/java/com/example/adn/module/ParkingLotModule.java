@@ -0,0 +1,18 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.infrastructure.lot.repository.ParkingLotRepositoryRoom;
+
+import dagger.Binds;
+import dagger.Module;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public interface ParkingLotModule {
+
+    @Binds
+    ParkingLotRepository injectParkingLotRepository(ParkingLotRepositoryRoom parkingLotRepositoryRoom);
+
+}
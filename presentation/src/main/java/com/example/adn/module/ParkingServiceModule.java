@@ -0,0 +1,37 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.metrics.InstrumentedParkingService;
+import com.example.domain.parking.metrics.ParkingMetrics;
+import com.example.domain.parking.repository.ParkingLotRepository;
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.car.repository.CarRepository;
+import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+
+import javax.inject.Singleton;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public class ParkingServiceModule {
+
+    @Provides
+    @Singleton
+    public static ParkingService provideParkingService(CarRepository carRepository,
+                                                       MotorcycleRepository motorcycleRepository,
+                                                       VehicleRepository vehicleRepository,
+                                                       TariffRepository tariffRepository,
+                                                       ParkingLotRepository parkingLotRepository,
+                                                       TicketRepository ticketRepository,
+                                                       ParkingMetrics parkingMetrics) {
+        return new InstrumentedParkingService(carRepository, motorcycleRepository, vehicleRepository,
+                tariffRepository, parkingLotRepository, ticketRepository, parkingMetrics);
+    }
+
+}
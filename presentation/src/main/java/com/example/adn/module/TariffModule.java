@@ -0,0 +1,18 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.repository.TariffRepository;
+import com.example.infrastructure.tariff.repository.TariffRepositoryRoom;
+
+import dagger.Binds;
+import dagger.Module;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public interface TariffModule {
+
+    @Binds
+    TariffRepository injectTariffRepository(TariffRepositoryRoom tariffRepositoryRoom);
+
+}
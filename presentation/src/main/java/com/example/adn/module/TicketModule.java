@@ -0,0 +1,26 @@
+package com.example.adn.module;
+
+import com.example.domain.parking.repository.TicketRepository;
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughTicketRepository;
+import com.example.infrastructure.ticket.repository.TicketRepositoryRoom;
+
+import javax.inject.Singleton;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.hilt.InstallIn;
+import dagger.hilt.android.components.ApplicationComponent;
+
+@Module
+@InstallIn({ApplicationComponent.class})
+public class TicketModule {
+
+    @Provides
+    @Singleton
+    public static TicketRepository provideTicketRepository(TicketRepositoryRoom ticketRepositoryRoom,
+                                                           ParkedVehicleStore parkedVehicleStore) {
+        return new WriteThroughTicketRepository(ticketRepositoryRoom, parkedVehicleStore);
+    }
+
+}
@@ -1,23 +1,50 @@
 package com.example.adn.module;
 
+import com.example.domain.parking.store.ParkedVehicleStore;
+import com.example.domain.parking.store.WriteThroughCarRepository;
+import com.example.domain.parking.store.WriteThroughMotorcycleRepository;
+import com.example.domain.parking.store.WriteThroughVehicleRepository;
 import com.example.domain.vehicle.car.repository.CarRepository;
 import com.example.domain.vehicle.motorcycle.repository.MotorcycleRepository;
-import com.example.infrastructure.car.respository.CarRepositoryRoom;
-import com.example.infrastructure.motorcycle.repository.MotorcycleRepositoryRoom;
+import com.example.domain.vehicle.vehicle.repository.VehicleRepository;
+import com.example.infrastructure.vehicle.repository.VehicleRepositoryRoom;
+
+import javax.inject.Singleton;
 
-import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import dagger.hilt.InstallIn;
-import dagger.hilt.android.components.ActivityComponent;
+import dagger.hilt.android.components.ApplicationComponent;
 
 @Module
-@InstallIn({ActivityComponent.class})
-public interface VehicleModule {
+@InstallIn({ApplicationComponent.class})
+public class VehicleModule {
+
+    @Provides
+    @Singleton
+    public static ParkedVehicleStore provideParkedVehicleStore(VehicleRepositoryRoom vehicleRepositoryRoom) {
+        return new ParkedVehicleStore(vehicleRepositoryRoom);
+    }
+
+    @Provides
+    @Singleton
+    public static CarRepository provideCarRepository(VehicleRepositoryRoom vehicleRepositoryRoom,
+                                                     ParkedVehicleStore parkedVehicleStore) {
+        return new WriteThroughCarRepository(vehicleRepositoryRoom, parkedVehicleStore);
+    }
 
-    @Binds
-    CarRepository injectCarRepository(CarRepositoryRoom carRepositoryRoom);
+    @Provides
+    @Singleton
+    public static MotorcycleRepository provideMotorcycleRepository(VehicleRepositoryRoom vehicleRepositoryRoom,
+                                                                   ParkedVehicleStore parkedVehicleStore) {
+        return new WriteThroughMotorcycleRepository(vehicleRepositoryRoom, parkedVehicleStore);
+    }
 
-    @Binds
-    MotorcycleRepository injectMotorcycleRepository(MotorcycleRepositoryRoom motorcycleRepositoryRoom);
+    @Provides
+    @Singleton
+    public static VehicleRepository provideVehicleRepository(VehicleRepositoryRoom vehicleRepositoryRoom,
+                                                             ParkedVehicleStore parkedVehicleStore) {
+        return new WriteThroughVehicleRepository(vehicleRepositoryRoom, parkedVehicleStore);
+    }
 
 }
@@ -0,0 +1,66 @@
+package com.example.adn.paging;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+
+import com.example.domain.parking.exception.GlobalException;
+import com.example.domain.parking.service.ParkingService;
+import com.example.domain.vehicle.vehicle.model.Vehicle;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+
+import java.util.List;
+
+/**
+ * Keys are row offsets. A prepend key is the first row of the page already loaded, so a page's
+ * previous key is its own first row, which is also where a refresh restarts.
+ */
+public class VehiclePagingSource extends ListenableFuturePagingSource<Integer, Vehicle> {
+
+    private final ParkingService parkingService;
+    private final ListeningExecutorService executorService;
+
+    public VehiclePagingSource(ParkingService parkingService, ListeningExecutorService executorService) {
+        this.parkingService = parkingService;
+        this.executorService = executorService;
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<Integer, Vehicle>> loadFuture(@NonNull LoadParams<Integer> params) {
+        Integer key = params.getKey();
+        int offset = key == null ? 0 : key;
+        int limit = params.getLoadSize();
+        if (params instanceof LoadParams.Prepend) {
+            limit = Math.min(limit, offset);
+            offset -= limit;
+        }
+        int pageOffset = offset;
+        int pageLimit = limit;
+        return executorService.submit(() -> loadPage(pageOffset, pageLimit));
+    }
+
+    private LoadResult<Integer, Vehicle> loadPage(int offset, int limit) {
+        try {
+            List<Vehicle> vehicles = parkingService.getVehicles(offset, limit);
+            Integer prevKey = offset > 0 ? offset : null;
+            Integer nextKey = vehicles.size() < limit ? null : offset + vehicles.size();
+            return new LoadResult.Page<>(vehicles, prevKey, nextKey);
+        } catch (GlobalException e) {
+            return new LoadResult.Error<>(e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Integer getRefreshKey(@NonNull PagingState<Integer, Vehicle> state) {
+        Integer anchorPosition = state.getAnchorPosition();
+        if (anchorPosition == null) {
+            return null;
+        }
+        LoadResult.Page<Integer, Vehicle> anchorPage = state.closestPageToPosition(anchorPosition);
+        return anchorPage == null ? null : anchorPage.getPrevKey();
+    }
+}
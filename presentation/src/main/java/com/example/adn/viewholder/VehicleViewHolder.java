@@ -16,18 +16,25 @@ public class VehicleViewHolder extends RecyclerView.ViewHolder {
 
     private final TextView textViewLicensePlate;
     private final TextView textViewEntryDate;
+    private final TextView textViewBay;
     private final Button buttonCollect;
 
     public VehicleViewHolder(@NonNull View itemView) {
         super(itemView);
         textViewLicensePlate = itemView.findViewById(R.id.textViewLicensePlate);
         textViewEntryDate = itemView.findViewById(R.id.textViewEntryDate);
+        textViewBay = itemView.findViewById(R.id.textViewBay);
         buttonCollect = itemView.findViewById(R.id.buttonCollect);
     }
 
     public void bindData(Vehicle vehicle, Activity activity) {
         textViewLicensePlate.setText(vehicle.getLicensePlate());
         textViewEntryDate.setText(vehicle.getEntryDate().toString());
+        if (vehicle.getBay() == Vehicle.NO_BAY) {
+            textViewBay.setText(R.string.noBay);
+        } else {
+            textViewBay.setText(itemView.getContext().getString(R.string.bayFormat, vehicle.getBay()));
+        }
         buttonCollect.setOnClickListener(v -> {
             ParkingServiceActivity parkingServiceActivity = (ParkingServiceActivity) activity;
             parkingServiceActivity.collectParkingService(vehicle);
@@ -6,58 +6,111 @@ import androidx.hilt.lifecycle.ViewModelInject;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
+import androidx.lifecycle.ViewModelKt;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
 import com.example.adn.R;
-import com.example.domain.parking.exception.GlobalException;
+import com.example.adn.paging.VehiclePagingSource;
+import com.example.domain.parking.exception.ParkingBusyException;
+import com.example.domain.parking.exception.VehicleNotParkedException;
+import com.example.domain.parking.executor.ParkingExecutor;
 import com.example.domain.vehicle.vehicle.model.Vehicle;
 import com.example.domain.parking.service.ParkingService;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import dagger.hilt.android.qualifiers.ApplicationContext;
 
 public class ParkingViewModel extends ViewModel {
 
+    private static final int PAGE_SIZE = 30;
     private final ParkingService parkingService;
-    private final ExecutorService executorService;
-    private MutableLiveData<List<Vehicle>> vehicleList;
+    private final ExecutorService writer;
+    private final ListeningExecutorService reader;
+    private LiveData<PagingData<Vehicle>> vehiclePagingData;
+    private volatile VehiclePagingSource vehiclePagingSource;
     private MutableLiveData<String> vehicleSaved;
     private MutableLiveData<Integer> parkingBill;
+    private final MutableLiveData<String> parkingBusy;
     private Context context;
 
     @ViewModelInject
-    public ParkingViewModel(ParkingService parkingService, @ApplicationContext Context context) {
+    public ParkingViewModel(ParkingService parkingService, ParkingExecutor parkingExecutor,
+                            @ApplicationContext Context context) {
         this.parkingService = parkingService;
-        this.vehicleList = new MutableLiveData<>();
         this.vehicleSaved = new MutableLiveData<>();
         this.parkingBill = new MutableLiveData<>();
+        this.parkingBusy = new MutableLiveData<>();
         this.context = context;
-        executorService = Executors.newFixedThreadPool(4);
-        getVehicleMutableList();
+        this.writer = parkingExecutor.getWriter();
+        this.reader = MoreExecutors.listeningDecorator(parkingExecutor.getReader());
     }
 
     public LiveData<String> saveVehicle(Vehicle vehicle) {
         try {
-            executorService.execute(() -> vehicle.saveVehicle(parkingService));
-            Objects.requireNonNull(vehicleList.getValue()).add(vehicle);
-            vehicleSaved.setValue(context.getString(R.string.vehicleSaved));
-        } catch (Exception exception) {
-            throw new GlobalException(context.getString(R.string.vehicleNotSavedException), exception);
+            writer.execute(() -> {
+                try {
+                    vehicle.saveVehicle(parkingService);
+                    invalidateVehiclePages();
+                    vehicleSaved.postValue(context.getString(R.string.vehicleSaved));
+                } catch (RuntimeException exception) {
+                    vehicleSaved.postValue(context.getString(R.string.vehicleNotSavedException)
+                            + exception.getMessage());
+                }
+            });
+        } catch (ParkingBusyException exception) {
+            parkingBusy.setValue(context.getString(R.string.parkingBusy));
         }
         return vehicleSaved;
     }
 
-    public MutableLiveData<List<Vehicle>> getVehicleMutableList() {
-        executorService.execute(() -> vehicleList.postValue(parkingService.getVehicles()));
-        return vehicleList;
+    /**
+     * Posted when the writer lane is full and a save or check-out was not accepted.
+     */
+    public LiveData<String> getParkingBusy() {
+        return parkingBusy;
+    }
+
+    public LiveData<PagingData<Vehicle>> getVehiclePagingData() {
+        if (vehiclePagingData == null) {
+            Pager<Integer, Vehicle> pager = new Pager<>(new PagingConfig(PAGE_SIZE),
+                    this::createVehiclePagingSource);
+            vehiclePagingData = PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager),
+                    ViewModelKt.getViewModelScope(this));
+        }
+        return vehiclePagingData;
+    }
+
+    private VehiclePagingSource createVehiclePagingSource() {
+        vehiclePagingSource = new VehiclePagingSource(parkingService, reader);
+        return vehiclePagingSource;
+    }
+
+    private void invalidateVehiclePages() {
+        VehiclePagingSource pagingSource = vehiclePagingSource;
+        if (pagingSource != null) {
+            pagingSource.invalidate();
+        }
     }
 
     public LiveData<Integer> collectParkingService(Vehicle vehicle) {
-        executorService.execute(() -> parkingBill.postValue(vehicle.parkingCost(parkingService)));
-        Objects.requireNonNull(vehicleList.getValue()).remove(vehicle);
+        try {
+            writer.execute(() -> {
+                try {
+                    parkingBill.postValue(vehicle.parkingCost(parkingService));
+                    invalidateVehiclePages();
+                } catch (VehicleNotParkedException ignored) {
+                    // A repeated tap; the first one already billed the vehicle
+                }
+            });
+        } catch (ParkingBusyException exception) {
+            parkingBusy.setValue(context.getString(R.string.parkingBusy));
+        }
         return parkingBill;
     }
 }